@@ -1,44 +1,61 @@
-package game;
-
-public final class GameConfig { //stores all values as permanent and no accidental changes
-    private GameConfig() {}
-    
-    public static final int WINDOW_WIDTH = 800;
-    public static final int WINDOW_HEIGHT = 600;
-    
-    public static final int WORLD_WIDTH = 9600; //map width
-    public static final int GATE_X_POSITION = 9500; //gate position
-    
-    public static final int BLOCK_SIZE = 32;
-    public static final int PLATFORM_SIZE = 32;
-    
-    public static final double GRAVITY = 0.45;
-    public static final double PLAYER_ACCELERATION = 0.18;
-    public static final double PLAYER_MAX_SPEED = 2.0;
-    public static final double PLAYER_JUMP_FORCE = -8.5;
-    
-    public static final int PLAYER_STARTING_LIVES = 5;
-    public static final long INVINCIBILITY_DURATION = 2_000_000_000L;
-    public static final long POWERUP_DURATION = 8_000_000_000L;
-    
-    public static final int FOSSILS_PER_LEVEL = 6;
-    public static final int TOTAL_LEVELS = 4;
-    
-    public static final double FOSSIL_SIZE = 58.0;
-    public static final double POWERUP_SIZE = 48.0;
-    public static final double ENEMY_SCALE_FACTOR = 1.3;
-    
-    public static final int DEFAULT_PATROL_DISTANCE = 2;
-    
-    public static final long ANIMATION_DELAY = 120_000_000L;
-    
-    public static final double KNOCKBACK_DECAY = 0.9;
-    
-    public static final double MUSIC_VOLUME = 0.7;
-    public static final double SFX_VOLUME = 0.8;
-    
-    public static final int HUD_FOSSIL_SIZE = 32;
-    public static final int HUD_LIFE_SIZE = 40;
-    public static final int HUD_PADDING = 15;
-    public static final int HUD_ICON_SPACING = 10;
+package game;
+
+public final class GameConfig { //stores all values as permanent and no accidental changes
+    private GameConfig() {}
+    
+    public static final int WINDOW_WIDTH = 800;
+    public static final int WINDOW_HEIGHT = 600;
+    
+    public static final int SIM_RATE = 60; //fixed simulation steps per second, all physics constants are per step
+    public static final long SIM_STEP_NANOS = 1_000_000_000L / SIM_RATE;
+    public static final int MAX_SIM_STEPS_PER_FRAME = 5; //catch-up cap, after a long stall we drop time instead of spiralling
+    
+    public static final int DEFAULT_WORLD_WIDTH = 9600; //map width for levels that don't set one with a WIDTH line
+    public static final int GATE_END_MARGIN = 100; //levels without a GATE line get it this far before the end of the world
+    
+    public static final int CHUNK_WIDTH = WINDOW_WIDTH; //levels stream in and out in chunks this wide around the camera
+    public static final int CHUNKS_BEHIND = 1; //chunks kept loaded behind the screen
+    public static final int CHUNKS_AHEAD = 2; //chunks loaded ahead of the screen, in the background
+    
+    public static final int BLOCK_SIZE = 32;
+    public static final int PLATFORM_SIZE = 32;
+    
+    public static final double GRAVITY = 0.45;
+    public static final double PLAYER_ACCELERATION = 0.18;
+    public static final double PLAYER_MAX_SPEED = 2.0;
+    public static final double PLAYER_JUMP_FORCE = -8.5;
+    
+    public static final int PLAYER_STARTING_LIVES = 5;
+    public static final long INVINCIBILITY_DURATION = 2_000_000_000L;
+    public static final long POWERUP_DURATION = 8_000_000_000L;
+    
+    public static final int FOSSILS_PER_LEVEL = 6;
+    public static final int TOTAL_LEVELS = 4;
+    public static final int PREFETCH_AFTER_FOSSILS = 3; //start loading the next level in the background after this many
+    
+    public static final double FOSSIL_SIZE = 58.0;
+    public static final double POWERUP_SIZE = 48.0;
+    public static final double ENEMY_SCALE_FACTOR = 1.3;
+    public static final double FIREBALL_SPEED = 12.0; //T-Rex fireball, pixels per step
+    public static final int MAX_PROJECTILES = 4096; //projectile pool size, shots past this are dropped
+    
+    public static final int DEFAULT_PATROL_DISTANCE = 2;
+    public static final int PATROL_SPAN_REACH = CHUNK_WIDTH; //walkable ground is probed this far each way, patrols stay well inside it
+    public static final double STOMP_DEPTH = 0.3; //stomps land in the top 30% of an enemy
+    public static final double STOMP_EDGE_MARGIN = 5; //and at least this far in from its sides
+    public static final double ENEMY_KNOCKBACK_X = 8; //push when an enemy hurts the player
+    public static final double ENEMY_KNOCKBACK_Y = -5;
+    public static final int ENEMY_ACTIVATION_MARGIN = 400; //enemies this far past either screen edge still run, further out they sleep
+    
+    public static final long ANIMATION_DELAY = 120_000_000L;
+    
+    public static final double KNOCKBACK_DECAY = 0.9;
+    
+    public static final double MUSIC_VOLUME = 0.7;
+    public static final double SFX_VOLUME = 0.8;
+    
+    public static final int HUD_FOSSIL_SIZE = 32;
+    public static final int HUD_LIFE_SIZE = 40;
+    public static final int HUD_PADDING = 15;
+    public static final int HUD_ICON_SPACING = 10;
 }
\ No newline at end of file
@@ -0,0 +1,376 @@
+package game;
+
+import game.audio.AudioManager;
+import game.entities.Enemy;
+import game.entities.EnemyType;
+import game.entities.Player;
+import game.levels.FloorMap;
+import game.levels.LevelLoader;
+import game.levels.LevelManager;
+import game.util.ImageCache;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+// runs the real game logic with no Stage, Canvas, images or audio, as fast as the CPU allows
+// a simple bot holds right and jumps, so CI boxes without a display can batch-run playthroughs
+// usage: java game.HeadlessGame [--runs N] [--ticks N] [--seed N] [--alloc N] [--parse-bench N] [--restart-bench N]
+// --alloc N measures heap allocated per tick over N steady-state ticks on level 1 and on level 4 (T-Rexes,
+// so projectiles are covered) and exits with status 1 if any of those ticks allocates - the per-step loop
+// is garbage free, pickups, hits and shots included
+// --parse-bench N times LevelLoader's line parsing over synthetic levels of N lines and reports what it
+// allocates per line, no game is run
+// --restart-bench N times N restarts from level 1's template against building level 1 from scratch
+// (headless, so the cold figure leaves out the map decode and terrain bake a real load also pays for)
+public class HeadlessGame {
+    private static final int[] ALLOC_LEVELS = { 1, 4 }; // measured by --alloc, level 4 is level 1 with T-Rexes
+    private static final int ALLOC_PROJECTILE_LEVEL = 4; // must see shots fired and cleared, or the check proves nothing
+    private static final int ALLOC_WARMUP_RUNS = 10; // full runs before measuring, fewer left the odd JIT deopt in the measured ticks
+    private static final double ALLOC_SHOOTER_LEAD = 500; // runs on the projectile level start this far short of a T-Rex
+    private static final int PARSE_BENCH_PASSES = 10; // best of, the first few passes are still JIT warmup
+    private static final int RESTART_BENCH_COLD_LOADS = 5; // best of, as above
+    private static final int RESTART_BENCH_PLAY_TICKS = 120; // played between restarts so each has state to reset
+    
+    private final Game game;
+    private final Random random; // drives the bot's jumps, fixed seed = repeatable runs
+    
+    // result of the last playthrough
+    private String outcome;
+    private long runTicks;
+    private long allocatedBytes; // last allocation probe, bytes over all measured ticks
+    private long allocatingTicks; // measured ticks that allocated anything
+    private long excludedTicks; // ticks left out of the probe, see measureAllocation
+    private long shotsFired; // projectiles spawned and removed during the measured ticks
+    private long shotsRemoved;
+    
+    HeadlessGame(long seed) {
+        this.game = new Game();
+        this.random = new Random(seed);
+    }
+    
+    // play from level 1 until the player escapes, dies, or maxTicks steps have run
+    void playThrough(long maxTicks) {
+        game.restartGame();
+        runTicks = 0;
+        outcome = "timeout";
+        
+        while (runTicks < maxTicks) {
+            drive(game.getPlayer());
+            game.update();
+            runTicks++;
+            
+            if (game.isGameComplete()) {
+                outcome = "escaped";
+                break;
+            }
+            if (game.isGameOver()) {
+                outcome = "died";
+                break;
+            }
+        }
+    }
+    
+    // heap allocated by this thread during steady play on a level, false if the JVM can't tell
+    // the level is played through several times first: the first pass down any path (a pickup, a death, a shot)
+    // resolves classes and constants, and compiled code that meets a branch it has never seen drops back to the
+    // interpreter, rebuilding objects escape analysis had removed - both allocate once, not per tick (under -Xint
+    // the measured ticks allocate nothing). Left out are ticks that load a level or end a run (the level is
+    // restarted and measuring carries on) and the tick that hands a level to the prefetch thread - those create
+    // objects by design
+    boolean measureAllocation(int level, long ticks) {
+        java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        if (!(mx instanceof com.sun.management.ThreadMXBean)) return false;
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) mx;
+        if (!bean.isThreadAllocatedMemorySupported()) return false;
+        bean.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+        
+        for (int run = 0; run < ALLOC_WARMUP_RUNS; run++) {
+            restartMeasured(level);
+            while (!runEnded(level)) {
+                drive(game.getPlayer());
+                game.update();
+            }
+        }
+        restartMeasured(level);
+        
+        LevelManager levels = game.getLevelManager();
+        allocatedBytes = 0;
+        allocatingTicks = 0;
+        excludedTicks = 0;
+        shotsFired = 0;
+        shotsRemoved = 0;
+        long measured = 0;
+        while (measured < ticks) {
+            boolean prefetching = levels.isPrefetching();
+            int inFlight = game.getEnemyManager().getProjectiles().getCount();
+            drive(game.getPlayer());
+            
+            long before = bean.getThreadAllocatedBytes(thread);
+            game.update();
+            long after = bean.getThreadAllocatedBytes(thread);
+            
+            if (runEnded(level)) {
+                excludedTicks++;
+                restartMeasured(level);
+                continue;
+            }
+            if (!prefetching && levels.isPrefetching()) {
+                excludedTicks++;
+                continue;
+            }
+            
+            int shots = game.getEnemyManager().getProjectiles().getCount() - inFlight;
+            if (shots > 0) shotsFired += shots;
+            if (shots < 0) shotsRemoved -= shots;
+            allocatedBytes += after - before;
+            if (after > before) allocatingTicks++;
+            measured++;
+        }
+        runTicks = measured;
+        return true;
+    }
+    
+    // restart a measured level, on the projectile level with the player on the ground in front of the first
+    // T-Rex - the bot seldom gets that far from the level start, and the shots are what that run is there for
+    private void restartMeasured(int level) {
+        game.restartAt(level);
+        if (level != ALLOC_PROJECTILE_LEVEL) return;
+        
+        LevelManager levels = game.getLevelManager();
+        FloorMap floor = levels.getFloorMap();
+        Player player = game.getPlayer();
+        for (Enemy enemy : levels.getEnemies()) {
+            if (enemy.getEnemyType().getAttack() != EnemyType.Attack.FIREBALL) continue;
+            // back off to the nearest column with ground under it
+            for (int col = floor.columnAt(enemy.getX() - ALLOC_SHOOTER_LEAD); col >= 0; col--) {
+                if (floor.getPitAt(col) < 0) {
+                    game.placePlayer(col * levels.getTileMap().getTileSize(), floor.getSurfaceY(col) - player.getHeight());
+                    return;
+                }
+            }
+        }
+    }
+    
+    // the player died, escaped, or walked through the gate into the next level
+    private boolean runEnded(int level) {
+        return game.isGameOver() || game.isGameComplete() || game.getLevelManager().getCurrentLevel() != level;
+    }
+    
+    // time restartGame() against what it used to cost, loading level 1 into a fresh LevelManager
+    // a couple of seconds are played before each restart so there are moved enemies and pickups to put back
+    void restartBenchmark(int restarts) {
+        long cold = Long.MAX_VALUE;
+        for (int i = 0; i < RESTART_BENCH_COLD_LOADS; i++) {
+            LevelManager fresh = new LevelManager();
+            long start = System.nanoTime();
+            fresh.loadLevel(1);
+            cold = Math.min(cold, System.nanoTime() - start);
+            fresh.dispose();
+        }
+        
+        long[] times = new long[restarts];
+        game.restartGame();
+        for (int i = 0; i < restarts; i++) {
+            for (int t = 0; t < RESTART_BENCH_PLAY_TICKS && !game.isGameOver(); t++) {
+                drive(game.getPlayer());
+                game.update();
+            }
+            long start = System.nanoTime();
+            game.restartGame();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        
+        System.out.printf("restart: level 1 cold load %.2f ms, %d restarts from template: median %.1f us, best %.1f us, worst %.1f us%n",
+            cold / 1e6, restarts, times[restarts / 2] / 1e3, times[0] / 1e3, times[restarts - 1] / 1e3);
+    }
+    
+    // bot input - run right, jump when stuck against a wall and now and then to clear gaps and enemies
+    private void drive(Player player) {
+        if (player.isDead()) return;
+        
+        player.startMoveRight();
+        boolean stalled = Math.abs(player.getVelX()) < 0.1;
+        if (player.isOnGround() && (stalled || random.nextInt(40) == 0)) {
+            player.jump();
+        }
+    }
+    
+    // synthetic level text, n entity lines in the mix real levels have (mostly blocks) plus comments and blank lines
+    private static byte[] syntheticLevel(int n, long seed) {
+        Random r = new Random(seed);
+        StringBuilder sb = new StringBuilder(n * 16);
+        sb.append("# synthetic level, ").append(n).append(" entities\n");
+        for (int i = 0; i < n; i++) {
+            int x = r.nextInt(GameConfig.DEFAULT_WORLD_WIDTH);
+            int y = 100 + r.nextInt(400);
+            int kind = r.nextInt(20);
+            if (kind < 16) {
+                sb.append("BLOCK ").append(x).append(' ').append(y);
+            } else if (kind == 16) {
+                sb.append("FOSSIL ").append(x).append(' ').append(y);
+            } else if (kind == 17) {
+                sb.append("POWERUP ").append(x).append(' ').append(y).append(" SPEED");
+            } else if (kind == 18) {
+                sb.append("ENEMY raptor ").append(x).append(' ').append(y);
+            } else {
+                sb.append("GATE ").append(x).append(".5");
+            }
+            sb.append(i % 50 == 49 ? "\n\n# section\n" : "\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+    
+    // blocks only, n BLOCK lines walking right in columns of 12 so each gets a cell of its own - the only
+    // thing parsing them builds is the tile map
+    private static byte[] syntheticBlocks(int n) {
+        StringBuilder sb = new StringBuilder(n * 16);
+        for (int i = 0; i < n; i++) {
+            int x = 128 + (i / 12) * GameConfig.BLOCK_SIZE;
+            int y = 100 + (i % 12) * GameConfig.BLOCK_SIZE;
+            sb.append("BLOCK ").append(x).append(' ').append(y).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+    
+    // times LevelLoader.parseLines, the loader's own line loop, over synthetic level text
+    // once over the usual mix of lines, whose objects are part of what is allocated, then over blocks alone,
+    // where everything allocated beyond the tile map's arrays is per-line parsing overhead
+    private static void parseBenchmark(int entities) {
+        benchmarkParse("mixed", syntheticLevel(entities, 1), entities);
+        benchmarkParse("blocks only", syntheticBlocks(entities), entities);
+    }
+    
+    private static void benchmarkParse(String name, byte[] text, int lines) {
+        java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean bean = mx instanceof com.sun.management.ThreadMXBean
+            ? (com.sun.management.ThreadMXBean) mx : null;
+        long thread = Thread.currentThread().getId();
+        
+        long best = Long.MAX_VALUE;
+        long allocated = -1;
+        long tileMapBytes = 0;
+        int tiles = 0;
+        for (int pass = 0; pass < PARSE_BENCH_PASSES; pass++) {
+            ByteBuffer bytes = ByteBuffer.wrap(text);
+            long before = bean != null ? bean.getThreadAllocatedBytes(thread) : 0;
+            long start = System.nanoTime();
+            LevelLoader.LevelData data = LevelLoader.parseLines(bytes, 1, "synthetic");
+            long elapsed = System.nanoTime() - start;
+            long after = bean != null ? bean.getThreadAllocatedBytes(thread) : 0;
+            tiles = data.tileMap.getTileCount(); // keeps the result alive
+            if (elapsed < best) {
+                best = elapsed;
+                allocated = bean != null ? after - before : -1;
+                tileMapBytes = data.tileMap.getMemoryBytes();
+            }
+        }
+        
+        double seconds = best / 1_000_000_000.0;
+        System.out.printf("parse (%s): %d lines, %d blocks, %.1f MB in %.1f ms: %.0f lines/s, %.0f MB/s, "
+            + "%d bytes allocated, %.1f per line beyond the tile map's %d%n",
+            name, lines, tiles, text.length / 1e6, best / 1e6, lines / seconds, text.length / 1e6 / seconds,
+            allocated, (allocated - tileMapBytes) / (double) lines, tileMapBytes);
+    }
+    
+    public static void main(String[] args) {
+        // level loads log a lot at INFO, keep the console for the results unless asked otherwise
+        if (System.getProperty("jurassic.log.level") == null) {
+            System.setProperty("jurassic.log.level", "WARN");
+        }
+        
+        int runs = 10;
+        long maxTicks = GameConfig.SIM_RATE * 60L * 5; // five minutes of game time per run
+        long seed = 1;
+        long allocTicks = 0;
+        int parseEntities = 0;
+        int restarts = 0;
+        
+        for (int i = 0; i < args.length - 1; i++) {
+            switch (args[i]) {
+                case "--runs":
+                    runs = Integer.parseInt(args[++i]);
+                    break;
+                case "--ticks":
+                    maxTicks = Long.parseLong(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--alloc":
+                    allocTicks = Long.parseLong(args[++i]);
+                    break;
+                case "--parse-bench":
+                    parseEntities = Integer.parseInt(args[++i]);
+                    break;
+                case "--restart-bench":
+                    restarts = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        // no display - must be set before anything loads an image or a sound, parsed levels included
+        ImageCache.setHeadless(true);
+        AudioManager.getInstance().disableMedia();
+        
+        if (parseEntities > 0) {
+            parseBenchmark(parseEntities);
+            return;
+        }
+        
+        HeadlessGame sim = new HeadlessGame(seed);
+        
+        if (restarts > 0) {
+            sim.restartBenchmark(restarts);
+            return;
+        }
+        
+        // steady play must not allocate at all, and the projectile level must actually have had shots in it
+        if (allocTicks > 0) {
+            boolean failed = false;
+            for (int level : ALLOC_LEVELS) {
+                if (!sim.measureAllocation(level, allocTicks)) {
+                    System.out.println("allocation: not measurable on this JVM");
+                    return;
+                }
+                System.out.printf("allocation: level %d, %.2f bytes/tick over %d steady-state ticks, %d ticks allocated (%d bytes), "
+                    + "%d left out, %d shots fired, %d cleared%n",
+                    level, sim.allocatedBytes / (double) Math.max(sim.runTicks, 1), sim.runTicks,
+                    sim.allocatingTicks, sim.allocatedBytes, sim.excludedTicks, sim.shotsFired, sim.shotsRemoved);
+                if (sim.allocatingTicks > 0) failed = true;
+                if (level == ALLOC_PROJECTILE_LEVEL && (sim.shotsFired == 0 || sim.shotsRemoved == 0)) {
+                    System.out.printf("allocation: no projectiles fired and cleared on level %d%n", level);
+                    failed = true;
+                }
+            }
+            if (failed) {
+                System.exit(1);
+            }
+            return;
+        }
+        
+        long totalTicks = 0;
+        long start = System.nanoTime();
+        for (int run = 1; run <= runs; run++) {
+            sim.playThrough(maxTicks);
+            totalTicks += sim.runTicks;
+            
+            System.out.printf("run %d: %s on level %d, %d/%d fossils, %d lives, %d ticks (%.1fs game time)%n",
+                run, sim.outcome, sim.game.getLevelManager().getCurrentLevel(),
+                sim.game.getLevelManager().getCollected(), GameConfig.FOSSILS_PER_LEVEL,
+                sim.game.getPlayer().getLives(), sim.runTicks, sim.runTicks / (double) GameConfig.SIM_RATE);
+        }
+        long elapsed = System.nanoTime() - start;
+        
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.printf("%d runs, %d ticks in %.2fs: %.0f ticks/s (%.1fx real time)%n",
+            runs, totalTicks, seconds, totalTicks / seconds,
+            totalTicks / seconds / GameConfig.SIM_RATE);
+    }
+}
\ No newline at end of file
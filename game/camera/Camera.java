@@ -1,42 +1,83 @@
-package game.camera;
-
-import game.GameConfig;
-
-public class Camera {
-    private double x;
-    
-    public Camera() {
-        this.x = 0;
-    }
-    
-    public double getX() {
-        return x;
-    }
-    
-    public void setX(double x) {
-        this.x = x;
-    }
-    
-    public void update(double playerX, double worldWidth) {
-        x = playerX - (GameConfig.WINDOW_WIDTH / 2);
-        
-        if (x < 0) {
-            x = 0;
-        }
-        
-        if (worldWidth > GameConfig.WINDOW_WIDTH && x > worldWidth - GameConfig.WINDOW_WIDTH) {
-            x = worldWidth - GameConfig.WINDOW_WIDTH;
-        }
-    }
-    
-    public void centerOnPlayer(double playerX) {
-        x = playerX - (GameConfig.WINDOW_WIDTH / 2);
-        if (x < 0) {
-            x = 0;
-        }
-    }
-    
-    public void reset() {
-        x = 0;
-    }
+package game.camera;
+
+import game.GameConfig;
+
+public class Camera {
+    private double x;
+    private double lastX; // camera position at the start of the current sim step
+    private double renderX; // interpolated position used for drawing
+    
+    public Camera() {
+        this.x = 0;
+        this.lastX = 0;
+        this.renderX = 0;
+    }
+    
+    public double getX() {
+        return x;
+    }
+    
+    public double getRenderX() {
+        return renderX;
+    }
+    
+    public void snapshot() {
+        lastX = x;
+    }
+    
+    public void interpolate(double alpha) {
+        renderX = lastX + (x - lastX) * alpha;
+    }
+    
+    public void setX(double x) {
+        this.x = x;
+    }
+    
+    public void update(double playerX, double worldWidth) {
+        x = playerX - (GameConfig.WINDOW_WIDTH / 2);
+        
+        if (x < 0) {
+            x = 0;
+        }
+        
+        if (worldWidth > GameConfig.WINDOW_WIDTH && x > worldWidth - GameConfig.WINDOW_WIDTH) {
+            x = worldWidth - GameConfig.WINDOW_WIDTH;
+        }
+    }
+    
+    public void centerOnPlayer(double playerX) {
+        x = playerX - (GameConfig.WINDOW_WIDTH / 2);
+        if (x < 0) {
+            x = 0;
+        }
+    }
+    
+    // visible world rectangle, taken at the interpolated position everything is drawn at
+    public double getViewX() {
+        return renderX;
+    }
+    
+    public double getViewY() {
+        return 0; // the camera only scrolls sideways
+    }
+    
+    public double getViewWidth() {
+        return GameConfig.WINDOW_WIDTH;
+    }
+    
+    public double getViewHeight() {
+        return GameConfig.WINDOW_HEIGHT;
+    }
+    
+    // does a world-space rectangle touch the viewport
+    public boolean isVisible(double x, double y, double width, double height) {
+        return x + width >= renderX && x <= renderX + GameConfig.WINDOW_WIDTH &&
+               y + height >= 0 && y <= GameConfig.WINDOW_HEIGHT;
+    }
+    
+    public void reset() {
+        x = 0;
+        lastX = 0;
+        renderX = 0;
+    }
 }
\ No newline at end of file
@@ -1,62 +1,97 @@
-package game.core;
-
-import game.GameConfig;
-
-public abstract class Entity extends GameObject implements Updatable {
-    protected double velocityX;
-    protected double velocityY;
-    protected boolean onGround;
-    protected boolean facingRight;
-    
-    public Entity(double x, double y, double width, double height) {
-        super(x, y, width, height);
-        this.velocityX = 0;
-        this.velocityY = 0;
-        this.onGround = false;
-        this.facingRight = true;
-    }
-    
-    protected void applyGravity() {
-        velocityY += GameConfig.GRAVITY;
-    }
-    
-    protected void applyVelocity() {
-        x += velocityX;
-        y += velocityY;
-    }
-    
-    public double getVelocityX() {
-        return velocityX;
-    }
-    
-    public double getVelocityY() {
-        return velocityY;
-    }
-    
-    public void setVelocityX(double vx) {
-        this.velocityX = vx;
-    }
-    
-    public void setVelocityY(double vy) {
-        this.velocityY = vy;
-    }
-    
-    public boolean isOnGround() {
-        return onGround;
-    }
-    
-    public void setOnGround(boolean onGround) {
-        this.onGround = onGround;
-    }
-    
-    public boolean isFacingRight() {
-        return facingRight;
-    }
-    
-    public void setFacingRight(boolean facingRight) {
-        this.facingRight = facingRight;
-    }
-    
-    @Override
-    public abstract void update();
+package game.core;
+
+import game.GameConfig;
+
+public abstract class Entity extends GameObject implements Updatable {
+    protected double velocityX;
+    protected double velocityY;
+    protected boolean onGround;
+    protected boolean facingRight;
+    
+    // position at the start of the current sim step and the blended position to draw at
+    protected double lastX;
+    protected double lastY;
+    protected double renderX;
+    protected double renderY;
+    
+    public Entity(double x, double y, double width, double height) {
+        super(x, y, width, height);
+        this.velocityX = 0;
+        this.velocityY = 0;
+        this.onGround = false;
+        this.facingRight = true;
+        resetInterpolation();
+    }
+    
+    // remember where this step started, called once before each fixed update
+    public void snapshotPosition() {
+        lastX = x;
+        lastY = y;
+    }
+    
+    // blend between the last two sim steps, alpha is how far we are into the next step (0-1)
+    public void interpolate(double alpha) {
+        renderX = lastX + (x - lastX) * alpha;
+        renderY = lastY + (y - lastY) * alpha;
+    }
+    
+    // snap the drawn position to the real one, used after teleports so we don't draw a slide
+    public void resetInterpolation() {
+        lastX = x;
+        lastY = y;
+        renderX = x;
+        renderY = y;
+    }
+    
+    public double getRenderX() {
+        return renderX;
+    }
+    
+    public double getRenderY() {
+        return renderY;
+    }
+    
+    protected void applyGravity() {
+        velocityY += GameConfig.GRAVITY;
+    }
+    
+    protected void applyVelocity() {
+        x += velocityX;
+        y += velocityY;
+    }
+    
+    public double getVelocityX() {
+        return velocityX;
+    }
+    
+    public double getVelocityY() {
+        return velocityY;
+    }
+    
+    public void setVelocityX(double vx) {
+        this.velocityX = vx;
+    }
+    
+    public void setVelocityY(double vy) {
+        this.velocityY = vy;
+    }
+    
+    public boolean isOnGround() {
+        return onGround;
+    }
+    
+    public void setOnGround(boolean onGround) {
+        this.onGround = onGround;
+    }
+    
+    public boolean isFacingRight() {
+        return facingRight;
+    }
+    
+    public void setFacingRight(boolean facingRight) {
+        this.facingRight = facingRight;
+    }
+    
+    @Override
+    public abstract void update();
 }
\ No newline at end of file
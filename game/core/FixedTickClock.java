@@ -0,0 +1,31 @@
+package game.core;
+
+// advances by exactly one step per tick - sim time is tick count times step length,
+// no matter how long each tick took in real time
+public class FixedTickClock extends SimClock {
+    private final long stepNanos;
+    private long time;
+    
+    public FixedTickClock(long stepNanos) {
+        this(stepNanos, 0);
+    }
+    
+    public FixedTickClock(long stepNanos, long startNanos) {
+        this.stepNanos = stepNanos;
+        this.time = startNanos;
+    }
+    
+    @Override
+    public long nanoTime() {
+        return time;
+    }
+    
+    @Override
+    public void tick() {
+        time += stepNanos;
+    }
+    
+    public long getStepNanos() {
+        return stepNanos;
+    }
+}
\ No newline at end of file
@@ -1,61 +1,61 @@
-package game.core;
-
-import javafx.scene.canvas.GraphicsContext;
-
-public abstract class GameObject implements Renderable, Collidable {
-    protected double x;
-    protected double y;
-    protected double width;
-    protected double height;
-    
-    public GameObject(double x, double y, double width, double height) {
-        this.x = x;
-        this.y = y;
-        this.width = width;
-        this.height = height;
-    }
-    
-    @Override
-    public double getX() {
-        return x;
-    }
-    
-    @Override
-    public double getY() {
-        return y;
-    }
-    
-    @Override
-    public double getWidth() {
-        return width;
-    }
-    
-    @Override
-    public double getHeight() {
-        return height;
-    }
-    
-    public void setX(double x) {
-        this.x = x;
-    }
-    
-    public void setY(double y) {
-        this.y = y;
-    }
-    
-    public void setPosition(double x, double y) {
-        this.x = x;
-        this.y = y;
-    }
-    
-    @Override
-    public boolean collidesWith(double otherX, double otherY, double otherWidth, double otherHeight) {
-        return x < otherX + otherWidth &&
-               x + width > otherX &&
-               y < otherY + otherHeight &&
-               y + height > otherY;
-    }
-    
-    @Override
-    public abstract void render(GraphicsContext gc, double cameraX);
+package game.core;
+
+import javafx.scene.canvas.GraphicsContext;
+
+public abstract class GameObject implements Renderable, Collidable {
+    protected double x;
+    protected double y;
+    protected double width;
+    protected double height;
+    
+    public GameObject(double x, double y, double width, double height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+    
+    @Override
+    public double getX() {
+        return x;
+    }
+    
+    @Override
+    public double getY() {
+        return y;
+    }
+    
+    @Override
+    public double getWidth() {
+        return width;
+    }
+    
+    @Override
+    public double getHeight() {
+        return height;
+    }
+    
+    public void setX(double x) {
+        this.x = x;
+    }
+    
+    public void setY(double y) {
+        this.y = y;
+    }
+    
+    public void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+    
+    @Override
+    public boolean collidesWith(double otherX, double otherY, double otherWidth, double otherHeight) {
+        return x < otherX + otherWidth &&
+               x + width > otherX &&
+               y < otherY + otherHeight &&
+               y + height > otherY;
+    }
+    
+    @Override
+    public abstract void render(GraphicsContext gc, double cameraX);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package game.core;
+
+// only moves when told to - ticks are ignored, callers step it with advance()
+public class ManualClock extends SimClock {
+    private long time;
+    
+    public ManualClock() {
+        this(0);
+    }
+    
+    public ManualClock(long startNanos) {
+        this.time = startNanos;
+    }
+    
+    @Override
+    public long nanoTime() {
+        return time;
+    }
+    
+    @Override
+    public void tick() {
+        // stepped explicitly
+    }
+    
+    public void advance(long nanos) {
+        time += nanos;
+    }
+    
+    public void set(long nanos) {
+        time = nanos;
+    }
+}
\ No newline at end of file
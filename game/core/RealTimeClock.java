@@ -0,0 +1,15 @@
+package game.core;
+
+// wall-clock time, what the game used before the sim clock existed
+public class RealTimeClock extends SimClock {
+    
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+    
+    @Override
+    public void tick() {
+        // wall time moves on its own
+    }
+}
\ No newline at end of file
@@ -1,7 +1,7 @@
-package game.core;
-
-import javafx.scene.canvas.GraphicsContext;
-
-public interface Renderable {
-    void render(GraphicsContext gc, double cameraX);
+package game.core;
+
+import javafx.scene.canvas.GraphicsContext;
+
+public interface Renderable {
+    void render(GraphicsContext gc, double cameraX);
 }
\ No newline at end of file
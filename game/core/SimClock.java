@@ -0,0 +1,28 @@
+package game.core;
+
+// source of game time for timers and animations (used to be System.nanoTime() everywhere)
+// the game loop ticks the installed clock once per sim step, so a headless run can
+// simulate minutes of play in milliseconds and two runs with the same input match
+public abstract class SimClock {
+    private static volatile SimClock current = new RealTimeClock();
+    
+    public static SimClock get() {
+        return current;
+    }
+    
+    // make this the clock every entity reads, returns it for chaining
+    public static <T extends SimClock> T install(T clock) {
+        current = clock;
+        return clock;
+    }
+    
+    // current sim time in nanoseconds, only differences between readings are meaningful
+    public static long now() {
+        return current.nanoTime();
+    }
+    
+    public abstract long nanoTime();
+    
+    // called by the game loop once per fixed sim step
+    public abstract void tick();
+}
\ No newline at end of file
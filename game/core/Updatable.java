@@ -1,5 +1,5 @@
-package game.core;
-
-public interface Updatable {
-    void update();
+package game.core;
+
+public interface Updatable {
+    void update();
 }
\ No newline at end of file
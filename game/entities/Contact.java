@@ -0,0 +1,42 @@
+package game.entities;
+
+// one player-enemy overlap found during a step, consumed once by the combat rules
+// instances are pooled by EnemyManager and overwritten every step, don't keep references
+public class Contact {
+    private Enemy enemy;
+    private double normalX; // direction from the enemy towards the player, one axis only
+    private double normalY; // -1 = player came down on top of the enemy
+    private double penetration; // overlap depth along the normal
+    
+    void set(Enemy enemy, double normalX, double normalY, double penetration) {
+        this.enemy = enemy;
+        this.normalX = normalX;
+        this.normalY = normalY;
+        this.penetration = penetration;
+    }
+    
+    void clear() {
+        enemy = null;
+    }
+    
+    public Enemy getEnemy() {
+        return enemy;
+    }
+    
+    public double getNormalX() {
+        return normalX;
+    }
+    
+    public double getNormalY() {
+        return normalY;
+    }
+    
+    public double getPenetration() {
+        return penetration;
+    }
+    
+    // contact from above, the only direction a stomp can come from
+    public boolean isFromAbove() {
+        return normalY < 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package game.entities;
+
+import game.util.ImageCache;
+import game.util.Log;
+import javafx.scene.image.Image;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// immutable per-type enemy data (frames, size, speed, animation timing)
+// built once per type and shared by every enemy of that type, so spawning a raptor
+// is a few field writes instead of nine image loads
+public final class EnemyArchetype {
+    private static final Map<String, EnemyArchetype> registry = new HashMap<>();
+
+    private static final int DEATH_FRAME_COUNT = 3;
+
+    private final String type; // Enemy type (raptor, pterodactyl, triceratops, trex)
+    private final double width; // Unscaled sprite width
+    private final double height; // Unscaled sprite height
+    private final double speed; // Default movement speed
+    private final long animDelay; // Time between animation frames
+    private final Image[] frames; // Movement animation, shared - never modify
+    private final Image[] deathFrames; // Death animation, shared - never modify
+    private final Image fireImg; // Projectile image (T-Rex only)
+
+    private EnemyArchetype(String type, double width, double height, double speed, long animDelay,
+                           String framePath, int frameCount, String deathPath, String firePath) {
+        this.type = type;
+        this.width = width;
+        this.height = height;
+        this.speed = speed;
+        this.animDelay = animDelay;
+        this.frames = framePath != null ? loadSequence(framePath, frameCount) : null;
+        this.deathFrames = loadSequence(deathPath, DEATH_FRAME_COUNT);
+        this.fireImg = firePath != null ? ImageCache.acquire(firePath) : null;
+
+        if (!ImageCache.isHeadless()) { // headless runs never load images, nothing to report
+            if (frames != null && frames[0] != null) {
+                Log.debug("Loaded {} frames for {}", frames.length, type);
+            } else {
+                Log.warn("No frames loaded for {}", type);
+            }
+            if (firePath != null && fireImg == null) {
+                Log.warn("FAILED to load fire image");
+            }
+        }
+    }
+    
+    // get the shared archetype for a type, building it on first use
+    public static synchronized EnemyArchetype forType(String type) {
+        String key = type.toLowerCase();
+        EnemyArchetype archetype = registry.get(key);
+        if (archetype == null) {
+            archetype = create(key);
+            registry.put(key, archetype);
+        }
+        return archetype;
+    }
+
+    // per-type stats, these used to live in Enemy.setDefaultSizeForType
+    private static EnemyArchetype create(String type) {
+        switch (type) {
+            case "raptor": // Fast ground enemy, quick animation
+                return new EnemyArchetype(type, 74, 48, 0.3, 100_000_000L,
+                    "/assets/enemies/raptor", 3, "/assets/enemies/raptor/death", null);
+            case "pterodactyl": // Flying enemy, faster animation (flapping wings)
+                return new EnemyArchetype(type, 74, 46, 0.4, 80_000_000L,
+                    "/assets/enemies/ptero", 5, "/assets/enemies/ptero/death", null);
+            case "triceratops": // Slow tank enemy, slower animation
+                return new EnemyArchetype(type, 56, 48, 0.2, 140_000_000L,
+                    "/assets/enemies/trike", 5, "/assets/enemies/trike/death", null);
+            case "trex": // Fast boss enemy, slower animation (big dinosaur), shoots fire
+                return new EnemyArchetype(type, 80, 72, 0.4, 160_000_000L,
+                    "/assets/enemies/trex", 5, "/assets/enemies/trex/death", "/assets/images/fire.png");
+            default:
+                return new EnemyArchetype(type, 48, 48, 0.3, 120_000_000L,
+                    null, 0, "/assets/enemies/default/death", null);
+        }
+    }
+
+    private static Image[] loadSequence(String basePath, int count) {
+        Image[] arr = new Image[count];
+        for (int i = 0; i < count; i++) {
+            String path = basePath + (i + 1) + ".png";
+            arr[i] = ImageCache.acquire(path);
+            if (arr[i] == null && !ImageCache.isHeadless()) {
+                Log.warn("Failed to load enemy image: {}", path);
+            }
+        }
+        return arr;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public long getAnimDelay() {
+        return animDelay;
+    }
+
+    // shared arrays are handed out directly to keep enemies allocation-free - callers must not write to them
+    Image[] getFrames() {
+        return frames;
+    }
+
+    Image[] getDeathFrames() {
+        return deathFrames;
+    }
+
+    Image getFireImage() {
+        return fireImg;
+    }
+}
\ No newline at end of file
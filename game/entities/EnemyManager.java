@@ -1,305 +1,396 @@
-package game.entities;
-
-import game.GameConfig;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import java.util.ArrayList;
-
-// centralized manager for all enemies in the current level
-public class EnemyManager {
-    private ArrayList<Enemy> enemies; // All active enemies
-    private Player player; // Reference to player for tracking
-    
-    private int playerLives; // Cached player life count
-    private boolean playerDead; // Is player currently dead
-    private int defaultPatrolDistance; // Default patrol range for enemies
-    
-    //  initializes manager with player reference
-    public EnemyManager(Player player) {
-        this.player = player;
-        this.enemies = new ArrayList<>();
-        this.playerLives = GameConfig.PLAYER_STARTING_LIVES;
-        this.playerDead = false;
-        this.defaultPatrolDistance = GameConfig.DEFAULT_PATROL_DISTANCE;
-    }
-    
-    // set new enemy list (called when loading level)
-    public void setEnemies(ArrayList<Enemy> list) {
-        enemies = list;
-        // apply default patrol distance to all enemies
-        for (Enemy enemy : enemies) {
-            if (enemy != null) {
-                enemy.setPatrolDistance(defaultPatrolDistance);
-            }
-        }
-        System.out.println("EnemyManager: Set " + enemies.size() + " enemies with " + defaultPatrolDistance + "-block patrol");
-    }
-    
-    // add single enemy to manager
-    public void addEnemy(Enemy enemy) {
-        if (enemy != null) {
-            enemy.setPatrolDistance(defaultPatrolDistance);
-            enemies.add(enemy);
-            System.out.println("Added " + enemy.getType() + " with " + defaultPatrolDistance + "-block patrol");
-        }
-    }
-    
-    // set patrol distance for all current and future enemies
-    public void setPatrolDistance(int blocks) {
-        this.defaultPatrolDistance = blocks;
-        for (Enemy enemy : enemies) {
-            if (enemy != null) {
-                enemy.setPatrolDistance(blocks);
-            }
-        }
-        System.out.println("All enemies set to " + blocks + "-block patrol");
-    }
-    
-    public ArrayList<Enemy> getEnemies() {
-        return enemies;
-    }
-    
-    public int getPlayerLives() {
-        return playerLives;
-    }
-    
-    public boolean isPlayerDead() {
-        return playerDead;
-    }
-    
-    // handles all enemy behavior and interactions
-    public void update(ArrayList<Platform> platforms) {
-        if (playerDead || player == null) return; // don't update if player dead
-        
-        ArrayList<Enemy> toRemove = new ArrayList<>(); // track enemies to remove
-        
-        for (Enemy e : enemies) {
-            if (e == null) continue;
-            
-            // update enemy AI and physics
-            e.updateWithPlatformsAndPlayer(platforms, player.getX());
-            
-            // remove enemies with completed death animation
-            if (e.isDead() && e.isDeathAnimComplete()) {
-                toRemove.add(e);
-                continue;
-            }
-            
-            // check collision with player
-            if (!e.isDead() && e.overlaps(player.getX(), player.getY(), player.getWidth(), player.getHeight())) {
-                handleEnemyCollision(e);
-            }
-            
-            // check projectile collisions (T-Rex fireballs)
-            if (e.getProjectiles() != null) {
-                ArrayList<Projectile> projectilesToRemove = new ArrayList<>();
-                
-                for (Projectile p : e.getProjectiles()) {
-                    if (p == null) continue;
-                    
-                    p.update(); // update projectile position
-                    
-                    // remove if dead or off-screen
-                    if (p.isDead() || p.getX() < -100 || p.getX() > 10000) {
-                        projectilesToRemove.add(p);
-                        continue;
-                    }
-                    
-                    // check if projectile hit player
-                    if (p.collides(player.getX(), player.getY(), player.getWidth(), player.getHeight())) {
-                        p.markForRemoval();
-                        projectilesToRemove.add(p);
-                        handleProjectileHit();
-                    }
-                }
-                
-                e.getProjectiles().removeAll(projectilesToRemove);
-            }
-        }
-        
-        // clean up dead enemies
-        if (!toRemove.isEmpty()) {
-            enemies.removeAll(toRemove);
-            System.out.println("Removed " + toRemove.size() + " dead enemies. Remaining: " + enemies.size());
-        }
-        
-        // update cached player state
-        if (player != null) {
-            playerLives = player.getLives();
-            if (playerLives <= 0) {
-                playerDead = true;
-            }
-        }
-    }
-    
-    // handle collision between enemy and player
-    private void handleEnemyCollision(Enemy enemy) {
-        if (player == null || player.isInvincible() || player.isDead()) return;
-        
-        // check if player is stomping on enemy head
-        if (isPlayerStomping(enemy)) {
-            enemy.damage(); // Kill enemy
-            player.killEnemy(); // Bounce player
-            System.out.println("Enemy stomped: " + enemy.getType());
-        } else {
-            // player hit from side - take damage
-            damagePlayer();
-            applyKnockback(enemy);
-        }
-    }
-    
-    // check if player is landing on enemy head from above
-    private boolean isPlayerStomping(Enemy enemy) {
-        if (player == null || enemy == null) return false;
-        
-        double playerBottom = player.getY() + player.getHeight();
-        double enemyTop = enemy.getY();
-        double playerVelY = player.getVelocityY();
-        
-        // player must be falling, landing on top third of enemy
-        return playerVelY > 0 &&
-               playerBottom >= enemyTop && 
-               playerBottom <= enemyTop + 20 &&
-               player.getX() + player.getWidth() > enemy.getX() + 10 &&
-               player.getX() < enemy.getX() + enemy.getWidth() - 10;
-    }
-    
-    // apply knockback to player based on enemy position
-    private void applyKnockback(Enemy enemy) {
-        if (player == null) return;
-        
-        // push player away from enemy
-        double knockbackX = (player.getX() < enemy.getX()) ? -8 : 8;
-        double knockbackY = -5;
-        
-        player.knockback(knockbackX, knockbackY);
-    }
-    
-    // handle player being hit by projectile
-    private void handleProjectileHit() {
-        if (player == null || player.isInvincible() || player.isDead()) return;
-        
-        damagePlayer();
-        System.out.println("Hit by projectile! Lives: " + playerLives);
-    }
-    
-    // damage player and check for death
-    private void damagePlayer() {
-        if (player == null || player.isInvincible() || player.isDead()) return;
-        
-        player.takeDamage(1);
-        playerLives = player.getLives();
-        
-        System.out.println("Player damaged! Lives: " + playerLives);
-        
-        if (playerLives <= 0) {
-            playerDead = true;
-            System.out.println("Player died!");
-        }
-    }
-    
-    // render all enemies and projectiles
-    public void render(GraphicsContext gc, double camX) {
-        if (gc == null) return;
-        
-        // render all enemies
-        for (Enemy e : enemies) {
-            if (e != null) {
-                e.render(gc, camX);
-            }
-        }
-        
-        // render all projectiles
-        for (Enemy e : enemies) {
-            if (e != null && e.getProjectiles() != null) {
-                for (Projectile p : e.getProjectiles()) {
-                    if (p != null && !p.isDead()) {
-                        p.render(gc, camX);
-                    }
-                }
-            }
-        }
-    }
-    
-    // reset manager state
-    public void reset() {
-        playerLives = GameConfig.PLAYER_STARTING_LIVES;
-        playerDead = false;
-        System.out.println("EnemyManager reset - ready for new enemies");
-    }
-    
-    // clear all enemies from manager
-    public void clearEnemies() {
-        enemies.clear();
-        System.out.println("Cleared all enemies");
-    }
-    
-    public int getEnemyCount() {
-        return enemies.size();
-    }
-    
-    public int getPatrolDistance() {
-        return defaultPatrolDistance;
-    }
-    
-    // debug output for all enemies
-    public void debugEnemyInfo() {
-        System.out.println("=== ENEMY MANAGER DEBUG ===");
-        System.out.println("Total enemies: " + enemies.size());
-        System.out.println("Player lives: " + playerLives);
-        System.out.println("Player dead: " + playerDead);
-        System.out.println("Patrol distance: " + defaultPatrolDistance + " blocks");
-        
-        for (int i = 0; i < enemies.size(); i++) {
-            Enemy e = enemies.get(i);
-            if (e != null) {
-                e.debugInfo();
-            }
-        }
-    }
-    
-    // check if any enemies are near a position
-    public boolean hasEnemiesNear(double x, double y, double radius) {
-        for (Enemy e : enemies) {
-            if (e != null && !e.isDead()) {
-                double dx = e.getX() - x;
-                double dy = e.getY() - y;
-                double distance = Math.sqrt(dx * dx + dy * dy);
-                if (distance < radius) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-    
-    // render debug visualization
-    public void renderDebug(GraphicsContext gc, double camX) {
-        if (gc == null) return;
-        
-        gc.setFill(Color.RED);
-        gc.setFont(Font.font(12));
-        
-        for (Enemy e : enemies) {
-            if (e != null) {
-                double screenX = e.getX() - camX;
-                double screenY = e.getY();
-                
-                // Draw debug marker
-                gc.fillRect(screenX, screenY, 10, 10);
-                
-                // Show enemy info
-                gc.fillText(e.getType() + " (" + e.getX() + "," + e.getY() + ")", screenX, screenY - 5);
-                gc.fillText("Alive: " + !e.isDead(), screenX, screenY - 20);
-                
-                // Show patrol range
-                gc.setStroke(Color.YELLOW);
-                gc.setLineWidth(1);
-                double patrolStartX = e.getX() - camX;
-                double patrolEndX = patrolStartX + (defaultPatrolDistance * GameConfig.BLOCK_SIZE);
-                gc.strokeLine(patrolStartX, screenY - 30, patrolEndX, screenY - 30);
-            }
-        }
-    }
+package game.entities;
+
+import game.GameConfig;
+import game.camera.Camera;
+import game.levels.CollisionSpan;
+import game.levels.SpatialGrid;
+import game.levels.TileMap;
+import game.util.Log;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// centralized manager for all enemies in the current level
+public class EnemyManager {
+    private Enemy[] enemies; // All active enemies, first enemyCount slots in use
+    private int enemyCount;
+    private final ProjectileSystem projectiles; // Every enemy shot in the level, one shared pool
+    private Player player; // Reference to player for tracking
+    
+    private int playerLives; // Cached player life count
+    private boolean playerDead; // Is player currently dead
+    private int defaultPatrolDistance; // Default patrol range for enemies
+    private int lastRenderSkipped; // Enemies/projectiles culled by the last render
+    private int activeCount; // Enemies inside the activation band on the last update
+    
+    private Contact[] contacts; // Player-enemy overlaps found this step, pooled and reused every step
+    private int contactCount;
+    
+    //  initializes manager with player reference
+    public EnemyManager(Player player) {
+        this.player = player;
+        this.enemies = new Enemy[16];
+        this.projectiles = new ProjectileSystem(GameConfig.MAX_PROJECTILES);
+        this.contacts = new Contact[4];
+        for (int i = 0; i < contacts.length; i++) {
+            contacts[i] = new Contact();
+        }
+        this.playerLives = GameConfig.PLAYER_STARTING_LIVES;
+        this.playerDead = false;
+        this.defaultPatrolDistance = GameConfig.DEFAULT_PATROL_DISTANCE;
+    }
+    
+    // set new enemy list (called when loading level)
+    // the enemies are copied into the manager's own array, the level's list is left as loaded
+    public void setEnemies(ArrayList<Enemy> list) {
+        clearSlots();
+        // apply default patrol distance to all enemies
+        for (Enemy enemy : list) {
+            if (enemy != null) {
+                enemy.setPatrolDistance(defaultPatrolDistance);
+                append(enemy);
+            }
+        }
+        Log.info("EnemyManager: Set {} enemies with {}-block patrol", enemyCount, defaultPatrolDistance);
+    }
+    
+    // add single enemy to manager
+    public void addEnemy(Enemy enemy) {
+        if (enemy != null) {
+            enemy.setPatrolDistance(defaultPatrolDistance);
+            append(enemy);
+            Log.debug("Added {} with {}-block patrol", enemy.getType(), defaultPatrolDistance);
+        }
+    }
+    
+    // set patrol distance for all current and future enemies
+    public void setPatrolDistance(int blocks) {
+        this.defaultPatrolDistance = blocks;
+        for (int i = 0; i < enemyCount; i++) {
+            enemies[i].setPatrolDistance(blocks);
+        }
+        Log.info("All enemies set to {}-block patrol", blocks);
+    }
+    
+    // enemies are indexed 0 .. getEnemyCount()-1, the order changes as dead ones are removed
+    public Enemy getEnemy(int i) {
+        return enemies[i];
+    }
+    
+    public int getPlayerLives() {
+        return playerLives;
+    }
+    
+    public boolean isPlayerDead() {
+        return playerDead;
+    }
+    
+    // handles all enemy behavior and interactions
+    // runs every step, so nothing in here allocates - enemies and projectiles are removed in place
+    // only enemies inside the activation band around the camera are simulated, the rest sleep with their
+    // state frozen. The band follows the sim camera position, so enemies wake on the same step every run
+    public void update(SpatialGrid<CollisionSpan> solids, TileMap terrain, Camera camera) {
+        if (playerDead || player == null) return; // don't update if player dead
+        
+        double bandLeft = camera.getX() - GameConfig.ENEMY_ACTIVATION_MARGIN;
+        double bandRight = camera.getX() + camera.getViewWidth() + GameConfig.ENEMY_ACTIVATION_MARGIN;
+        
+        int removed = 0;
+        int active = 0;
+        contactCount = 0;
+        int i = 0;
+        while (i < enemyCount) {
+            Enemy e = enemies[i];
+            
+            // asleep - the player is on screen, so it can't touch this enemy either
+            if (e.getX() + e.getWidth() < bandLeft || e.getX() > bandRight) {
+                i++;
+                continue;
+            }
+            active++;
+            
+            // update enemy AI and physics
+            e.updateWithPlatformsAndPlayer(solids, terrain, player.getX(), projectiles);
+            
+            // remove enemies with completed death animation - the last enemy moves into
+            // this slot and is handled next, so none is skipped
+            if (e.isDead() && e.isDeathAnimComplete()) {
+                projectiles.removeOwnedBy(e); // its shots go with it
+                enemies[i] = enemies[--enemyCount];
+                enemies[enemyCount] = null;
+                removed++;
+                continue;
+            }
+            
+            // the only player-enemy overlap test of the step, the combat rules run on what it records
+            if (!e.isDead() && e.overlaps(player.getX(), player.getY(), player.getWidth(), player.getHeight())) {
+                addContact(e);
+            }
+            
+            i++;
+        }
+        
+        resolveContacts();
+        
+        // one pass moves every projectile (T-Rex fireballs), one more checks them all against the player
+        projectiles.update(terrain.getWidth());
+        if (projectiles.collide(player.getX(), player.getY(), player.getWidth(), player.getHeight()) > 0) {
+            handleProjectileHit();
+        }
+        
+        activeCount = active;
+        
+        if (removed > 0 && Log.isDebugEnabled()) {
+            Log.debug("Removed {} dead enemies. Remaining: {}", removed, enemyCount);
+        }
+        
+        // update cached player state
+        if (player != null) {
+            playerLives = player.getLives();
+            if (playerLives <= 0) {
+                playerDead = true;
+            }
+        }
+    }
+    
+    // record start-of-step positions for render interpolation
+    public void snapshotPositions() {
+        for (int i = 0; i < enemyCount; i++) {
+            enemies[i].snapshotPosition();
+        }
+        projectiles.snapshotPositions();
+    }
+    
+    // blend enemy and projectile positions between the last two sim steps
+    public void interpolate(double alpha) {
+        for (int i = 0; i < enemyCount; i++) {
+            enemies[i].interpolate(alpha);
+        }
+        projectiles.interpolate(alpha);
+    }
+    
+    // record how the player overlaps an enemy
+    // a contact is from above when the player's feet are in the top part of the enemy (GameConfig.STOMP_DEPTH)
+    // and away from its edges (GameConfig.STOMP_EDGE_MARGIN), otherwise it is a side contact
+    private void addContact(Enemy enemy) {
+        if (contactCount == contacts.length) {
+            contacts = Arrays.copyOf(contacts, contactCount * 2);
+            for (int i = contactCount; i < contacts.length; i++) {
+                contacts[i] = new Contact();
+            }
+        }
+        
+        double playerBottom = player.getY() + player.getHeight();
+        double playerRight = player.getX() + player.getWidth();
+        double enemyRight = enemy.getX() + enemy.getWidth();
+        double depth = playerBottom - enemy.getY();
+        
+        Contact c = contacts[contactCount++];
+        if (depth <= enemy.getHeight() * GameConfig.STOMP_DEPTH &&
+            playerRight > enemy.getX() + GameConfig.STOMP_EDGE_MARGIN &&
+            player.getX() < enemyRight - GameConfig.STOMP_EDGE_MARGIN) {
+            c.set(enemy, 0, -1, depth);
+        } else if (player.getX() < enemy.getX()) {
+            c.set(enemy, -1, 0, playerRight - enemy.getX()); // player on the left
+        } else {
+            c.set(enemy, 1, 0, enemyRight - player.getX());
+        }
+    }
+    
+    // combat rules, applied once per contact in the order they were found
+    // falling onto an enemy from above kills it and bounces the player (invincible or not), landing on
+    // several at once stomps them all. A contact from above never hurts, any other contact hurts the
+    // player and knocks them away from the enemy
+    private void resolveContacts() {
+        // taken once for the whole step - the first stomp's bounce sends the player up, which must not
+        // turn the next enemy landed on into a hit
+        boolean falling = player.getVelocityY() > 0;
+        for (int i = 0; i < contactCount; i++) {
+            Contact c = contacts[i];
+            Enemy enemy = c.getEnemy();
+            c.clear();
+            if (player.isDead() || enemy.isDead()) continue; // already handled by an earlier contact
+            
+            if (c.isFromAbove()) {
+                if (!falling) continue; // feet on its head on the way up, neither a stomp nor a hit
+                enemy.damage(); // Kill enemy
+                player.killEnemy(); // Bounce player
+                Log.info("Enemy stomped: {}", enemy.getType());
+            } else if (!player.isInvincible()) {
+                damagePlayer();
+                // push player away from enemy, straight up contacts push by which side of the enemy they are on
+                double side = c.getNormalX() != 0 ? c.getNormalX() : (player.getX() < enemy.getX() ? -1 : 1);
+                player.knockback(side * GameConfig.ENEMY_KNOCKBACK_X, GameConfig.ENEMY_KNOCKBACK_Y);
+            }
+        }
+    }
+    
+    // handle player being hit by projectile
+    private void handleProjectileHit() {
+        if (player == null || player.isInvincible() || player.isDead()) return;
+        
+        damagePlayer();
+        Log.info("Hit by projectile! Lives: {}", playerLives);
+    }
+    
+    // damage player and check for death
+    private void damagePlayer() {
+        if (player == null || player.isInvincible() || player.isDead()) return;
+        
+        player.takeDamage(1);
+        playerLives = player.getLives();
+        
+        Log.info("Player damaged! Lives: {}", playerLives);
+        
+        if (playerLives <= 0) {
+            playerDead = true;
+            Log.info("Player died!");
+        }
+    }
+    
+    // render enemies and projectiles inside the camera view, returns how many were drawn
+    public int render(GraphicsContext gc, Camera camera) {
+        if (gc == null) return 0;
+        double camX = camera.getRenderX();
+        int drawn = 0;
+        int skipped = 0;
+        
+        // render visible enemies
+        for (int i = 0; i < enemyCount; i++) {
+            Enemy e = enemies[i];
+            if (camera.isVisible(e.getRenderX(), e.getRenderY(), e.getWidth(), e.getHeight())) {
+                e.render(gc, camX);
+                drawn++;
+            } else {
+                skipped++;
+            }
+        }
+        
+        // render visible projectiles
+        drawn += projectiles.render(gc, camera);
+        lastRenderSkipped = skipped + projectiles.getLastRenderSkipped();
+        return drawn;
+    }
+    
+    public ProjectileSystem getProjectiles() {
+        return projectiles;
+    }
+    
+    public int getLastRenderSkipped() {
+        return lastRenderSkipped;
+    }
+    
+    // reset manager state
+    public void reset() {
+        playerLives = GameConfig.PLAYER_STARTING_LIVES;
+        playerDead = false;
+        Log.info("EnemyManager reset - ready for new enemies");
+    }
+    
+    // take an enemy out of the update, false if it wasn't in it (dead enemies go by themselves)
+    // its projectiles go with it
+    public boolean removeEnemy(Enemy enemy) {
+        for (int i = 0; i < enemyCount; i++) {
+            if (enemies[i] == enemy) {
+                projectiles.removeOwnedBy(enemy);
+                enemies[i] = enemies[--enemyCount];
+                enemies[enemyCount] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // clear all enemies from manager
+    public void clearEnemies() {
+        clearSlots();
+        Log.info("Cleared all enemies");
+    }
+    
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+    
+    // enemies that were awake on the last update, the others were out of the activation band
+    public int getActiveCount() {
+        return activeCount;
+    }
+    
+    public int getPatrolDistance() {
+        return defaultPatrolDistance;
+    }
+    
+    // debug output for all enemies
+    public void debugEnemyInfo() {
+        Log.info("=== ENEMY MANAGER DEBUG ===");
+        Log.info("Total enemies: {}", enemyCount);
+        Log.info("Player lives: {}", playerLives);
+        Log.info("Player dead: {}", playerDead);
+        Log.info("Patrol distance: {} blocks", defaultPatrolDistance);
+        
+        for (int i = 0; i < enemyCount; i++) {
+            enemies[i].debugInfo();
+        }
+    }
+    
+    // check if any enemies are near a position
+    public boolean hasEnemiesNear(double x, double y, double radius) {
+        for (int i = 0; i < enemyCount; i++) {
+            Enemy e = enemies[i];
+            if (!e.isDead()) {
+                double dx = e.getX() - x;
+                double dy = e.getY() - y;
+                double distance = Math.sqrt(dx * dx + dy * dy);
+                if (distance < radius) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    // render debug visualization
+    public void renderDebug(GraphicsContext gc, double camX) {
+        if (gc == null) return;
+        
+        gc.setFill(Color.RED);
+        gc.setFont(Font.font(12));
+        
+        for (int i = 0; i < enemyCount; i++) {
+            Enemy e = enemies[i];
+            double screenX = e.getX() - camX;
+            double screenY = e.getY();
+            
+            // Draw debug marker
+            gc.fillRect(screenX, screenY, 10, 10);
+            
+            // Show enemy info
+            gc.fillText(e.getType() + " (" + e.getX() + "," + e.getY() + ")", screenX, screenY - 5);
+            gc.fillText("Alive: " + !e.isDead(), screenX, screenY - 20);
+            
+            // Show patrol range
+            gc.setStroke(Color.YELLOW);
+            gc.setLineWidth(1);
+            double patrolStartX = e.getX() - camX;
+            double patrolEndX = patrolStartX + (defaultPatrolDistance * GameConfig.BLOCK_SIZE);
+            gc.strokeLine(patrolStartX, screenY - 30, patrolEndX, screenY - 30);
+        }
+    }
+    
+    // grow the array when full, enemies are only added at level load
+    private void append(Enemy enemy) {
+        if (enemyCount == enemies.length) {
+            enemies = Arrays.copyOf(enemies, enemyCount * 2);
+        }
+        enemies[enemyCount++] = enemy;
+    }
+    
+    // drop references so removed enemies can be collected, their projectiles go too
+    private void clearSlots() {
+        Arrays.fill(enemies, 0, enemyCount, null);
+        enemyCount = 0;
+        projectiles.clear();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package game.entities;
+
+import game.levels.CollisionSpan;
+import game.levels.SpatialGrid;
+import game.levels.TileMap;
+import javafx.scene.paint.Color;
+
+// the kinds of enemy a level can place, each with its movement and attack strategy
+// an enemy resolves its type once when it is created, so a tick is two strategy calls
+// instead of comparing type strings all through the update
+public enum EnemyType {
+    RAPTOR("raptor", Movement.WALK, Attack.NONE, Color.DARKGREEN),
+    PTERODACTYL("pterodactyl", Movement.FLY, Attack.NONE, Color.DARKBLUE),
+    TRICERATOPS("triceratops", Movement.WALK, Attack.NONE, Color.DARKGRAY),
+    TREX("trex", Movement.WALK, Attack.FIREBALL, Color.DARKRED),
+    UNKNOWN(null, Movement.WALK, Attack.NONE, Color.PURPLE); // any other name in a level file
+    
+    private final String id; // name used in level files
+    private final Movement movement;
+    private final Attack attack;
+    private final Color fallbackColor; // drawn when the sprites are missing
+    
+    EnemyType(String id, Movement movement, Attack attack, Color fallbackColor) {
+        this.id = id;
+        this.movement = movement;
+        this.attack = attack;
+        this.fallbackColor = fallbackColor;
+    }
+    
+    // type for a level-file name, case-insensitive, UNKNOWN if it isn't one we know
+    public static EnemyType fromId(String name) {
+        for (EnemyType t : values()) {
+            if (t.id != null && t.id.equalsIgnoreCase(name)) {
+                return t;
+            }
+        }
+        return UNKNOWN;
+    }
+    
+    // name used in level files, null for UNKNOWN
+    public String getId() {
+        return id;
+    }
+    
+    public Movement getMovement() {
+        return movement;
+    }
+    
+    public Attack getAttack() {
+        return attack;
+    }
+    
+    public Color getFallbackColor() {
+        return fallbackColor;
+    }
+    
+    // how an enemy moves for one sim step
+    public enum Movement {
+        // patrol along the ground, blocked by walls, turning back at ledges
+        // once grounded the walls and ledges come from the precomputed patrol span, no block lookups
+        WALK {
+            @Override
+            void step(Enemy enemy, SpatialGrid<CollisionSpan> solids, TileMap terrain) {
+                if (enemy.onPatrolSpan()) {
+                    enemy.patrolStep();
+                    enemy.keepInSpan();
+                    enemy.clampToWorld(terrain.getWidth());
+                    return;
+                }
+                
+                enemy.fall(1.0);
+                double oldX = enemy.getX();
+                double oldY = enemy.getY();
+                enemy.patrolStep();
+                enemy.moveVertically();
+                boolean supported = enemy.resolvePlatforms(solids, oldX, oldY);
+                enemy.setSupported(supported);
+                if (supported) {
+                    enemy.computePatrolSpan(terrain); // landed somewhere new, next step takes the fast path
+                }
+                enemy.turnAtLedge(terrain);
+                enemy.clampToWorld(terrain.getWidth());
+            }
+        },
+        // patrol through the air - damped gravity and no ground checks
+        FLY {
+            @Override
+            void step(Enemy enemy, SpatialGrid<CollisionSpan> solids, TileMap terrain) {
+                enemy.fall(0.8);
+                double oldX = enemy.getX();
+                double oldY = enemy.getY();
+                enemy.patrolStep();
+                enemy.moveVertically();
+                enemy.resolvePlatforms(solids, oldX, oldY);
+                enemy.clampToWorld(terrain.getWidth());
+            }
+        };
+        
+        abstract void step(Enemy enemy, SpatialGrid<CollisionSpan> solids, TileMap terrain);
+    }
+    
+    // what an enemy does to the player after moving
+    public enum Attack {
+        NONE {
+            @Override
+            void step(Enemy enemy, double playerX, ProjectileSystem projectiles) {
+            }
+        },
+        // fire along the ground when the player is in range in front of it
+        FIREBALL {
+            @Override
+            void step(Enemy enemy, double playerX, ProjectileSystem projectiles) {
+                enemy.checkShooting(playerX, projectiles);
+            }
+        };
+        
+        abstract void step(Enemy enemy, double playerX, ProjectileSystem projectiles);
+    }
+}
\ No newline at end of file
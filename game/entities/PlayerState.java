@@ -0,0 +1,56 @@
+package game.entities;
+
+import game.GameConfig;
+
+// player animation states and how each one plays
+// everything that differs per state lives in this table - sprite files, frame timing, whether the
+// animation loops or holds its last frame, and whether movement may switch away from it - so a new
+// state (crouch, wall-slide) is one more row here plus the rule that enters it
+public enum PlayerState {
+    IDLE("idle", 6, true, true),
+    RUN("run", 4, true, true),
+    JUMP("jump", 5, false, true), // holds the last frame until landing
+    HURT("hurt", 3, false, false), // plays out once, then movement takes over again
+    DEATH("death", 6, false, false);
+    
+    private static final String FRAME_PATH = "/assets/images/player/";
+    
+    private final String id; // sprite file prefix and debug label
+    private final int frameCount;
+    private final long frameDelay; // nanoseconds per frame
+    private final boolean loops; // false = hold on the last frame
+    private final boolean interruptible; // can running, stopping and jumping replace this state
+    
+    PlayerState(String id, int frameCount, boolean loops, boolean interruptible) {
+        this.id = id;
+        this.frameCount = frameCount;
+        this.frameDelay = GameConfig.ANIMATION_DELAY;
+        this.loops = loops;
+        this.interruptible = interruptible;
+    }
+    
+    // resource path of a frame, numbered from 0
+    public String framePath(int frame) {
+        return FRAME_PATH + id + (frame + 1) + ".png";
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public int getFrameCount() {
+        return frameCount;
+    }
+    
+    public long getFrameDelay() {
+        return frameDelay;
+    }
+    
+    public boolean loops() {
+        return loops;
+    }
+    
+    public boolean isInterruptible() {
+        return interruptible;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+package game.entities;
+
+import game.camera.Camera;
+import game.util.Log;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+// every enemy projectile in the level, kept in one fixed-size pool of parallel arrays
+// live projectiles fill slots 0 .. count-1, a dead one is replaced by the last, so spawning and
+// removing never allocate and each pass is a straight walk over primitive arrays
+public class ProjectileSystem {
+    public static final double SIZE = 32; // projectiles are square
+    private static final double OUT_MARGIN = 100; // killed once they fly this far outside the world
+    
+    private final int capacity;
+    private final double[] x;
+    private final double[] y;
+    private final double[] vx; // pixels per step, projectiles fly level
+    private final double[] lastX; // start-of-step position for render interpolation
+    private final double[] renderX;
+    private final boolean[] alive; // false once hit, compacted out by the next update
+    private final Enemy[] owner; // who fired it, also supplies the image
+    private int count;
+    
+    private int lastRenderSkipped;
+    
+    public ProjectileSystem(int capacity) {
+        this.capacity = capacity;
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.vx = new double[capacity];
+        this.lastX = new double[capacity];
+        this.renderX = new double[capacity];
+        this.alive = new boolean[capacity];
+        this.owner = new Enemy[capacity];
+    }
+    
+    // fire a projectile with its top-left corner at (px, py), false if the pool is full and the shot is dropped
+    public boolean spawn(Enemy from, double px, double py, double velocityX) {
+        if (count == capacity) {
+            if (Log.isDebugEnabled()) Log.debug("Projectile pool full ({}), shot dropped", capacity);
+            return false;
+        }
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = velocityX;
+        lastX[i] = px;
+        renderX[i] = px;
+        alive[i] = true;
+        owner[i] = from;
+        return true;
+    }
+    
+    // move every projectile one step, dropping the ones that were hit or left the world
+    public void update(double worldWidth) {
+        double maxX = worldWidth + OUT_MARGIN;
+        int i = 0;
+        while (i < count) {
+            if (alive[i]) {
+                x[i] += vx[i];
+                if (x[i] >= -OUT_MARGIN && x[i] <= maxX) {
+                    i++;
+                    continue;
+                }
+            }
+            removeAt(i); // the last projectile moves into slot i and is handled next
+        }
+    }
+    
+    // kill every live projectile overlapping the rectangle (edges excluded), returns how many hit
+    public int collide(double px, double py, double pw, double ph) {
+        // broad phase on the whole pool at once: nothing further than this from the target can touch it
+        double left = px - SIZE;
+        double right = px + pw;
+        double top = py - SIZE;
+        double bottom = py + ph;
+        
+        int hits = 0;
+        for (int i = 0; i < count; i++) {
+            if (x[i] > left && x[i] < right && y[i] > top && y[i] < bottom && alive[i]) {
+                alive[i] = false;
+                hits++;
+            }
+        }
+        return hits;
+    }
+    
+    // drop the projectiles of an enemy that has left the level
+    public void removeOwnedBy(Enemy enemy) {
+        int i = 0;
+        while (i < count) {
+            if (owner[i] == enemy) {
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+    }
+    
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            owner[i] = null;
+        }
+        count = 0;
+    }
+    
+    // record start-of-step positions for render interpolation
+    public void snapshotPositions() {
+        System.arraycopy(x, 0, lastX, 0, count);
+    }
+    
+    public void interpolate(double alpha) {
+        for (int i = 0; i < count; i++) {
+            renderX[i] = lastX[i] + (x[i] - lastX[i]) * alpha;
+        }
+    }
+    
+    // draw live projectiles inside the camera view, returns how many were drawn
+    public int render(GraphicsContext gc, Camera camera) {
+        double camX = camera.getRenderX();
+        int drawn = 0;
+        int skipped = 0;
+        
+        for (int i = 0; i < count; i++) {
+            if (!alive[i]) continue;
+            if (!camera.isVisible(renderX[i], y[i], SIZE, SIZE)) {
+                skipped++;
+                continue;
+            }
+            
+            Image image = owner[i].getArchetype().getFireImage();
+            double drawX = renderX[i] - camX;
+            if (image != null && !image.isError()) {
+                gc.drawImage(image, drawX, y[i], SIZE, SIZE);
+            } else {
+                gc.setFill(Color.ORANGE);
+                gc.fillRect(drawX, y[i], SIZE, SIZE);
+            }
+            drawn++;
+        }
+        lastRenderSkipped = skipped;
+        return drawn;
+    }
+    
+    public int getCount() {
+        return count;
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    public int getLastRenderSkipped() {
+        return lastRenderSkipped;
+    }
+    
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        lastX[i] = lastX[last];
+        renderX[i] = renderX[last];
+        alive[i] = alive[last];
+        owner[i] = owner[last];
+        owner[last] = null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package game.levels;
+
+import game.core.Collidable;
+
+// solid rectangle used for collision, one or more blocks merged together
+// level files list terrain one block at a time, mostly as long runs on the same row - merging a run
+// into one rectangle means far fewer collision tests and no seams between blocks to snag on
+// the blocks themselves are still drawn one by one, these are never rendered
+public final class CollisionSpan implements Collidable {
+    private final double x;
+    private final double y;
+    private final double width;
+    private final double height;
+    
+    public CollisionSpan(double x, double y, double width, double height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+    
+    @Override
+    public boolean collidesWith(double ox, double oy, double ow, double oh) {
+        return x < ox + ow && x + width > ox && y < oy + oh && y + height > oy;
+    }
+    
+    @Override
+    public double getX() {
+        return x;
+    }
+    
+    @Override
+    public double getY() {
+        return y;
+    }
+    
+    @Override
+    public double getWidth() {
+        return width;
+    }
+    
+    @Override
+    public double getHeight() {
+        return height;
+    }
+    
+    public double getRight() {
+        return x + width;
+    }
+    
+    public double getBottom() {
+        return y + height;
+    }
+}
\ No newline at end of file
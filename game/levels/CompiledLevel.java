@@ -0,0 +1,149 @@
+package game.levels;
+
+import game.entities.Enemy;
+import game.entities.Fossil;
+import game.entities.PowerUp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+// compiled level format (.jrl), written by LevelCompiler and preferred by LevelLoader over the text
+// it holds the level as the text loader leaves it - pixel coordinates after the tile conversion and
+// platform adjustment, the terrain arrays, merged collision spans, and enemies with their per-level
+// speed and patrol already applied - so loading is bulk copies and object construction, no parsing
+//
+// layout, big-endian:
+//   header   int magic "JRL1", short version, int level, int source crc, int payload length, int payload crc
+//   payload  double gateX, terrain (TileMap.writeTo), int n + spans (x, y, w, h),
+//            int n + fossils (x, y), int n + power-ups (byte type, x, y),
+//            int n + enemies (string type, x, y, speed, scale, int patrol blocks)
+//   strings are a short byte length and UTF-8 bytes
+// the source crc is the crc32 of the level text it was compiled from, a compiled file whose
+// text has changed since is stale and gets ignored
+public final class CompiledLevel {
+    public static final String EXTENSION = ".jrl";
+    public static final int ANY_SOURCE = 0; // pass to decode() when there is no text to compare with
+    
+    private static final int MAGIC = 0x4A524C31; // "JRL1"
+    private static final short VERSION = 1; // bump whenever the layout changes
+    private static final int HEADER_SIZE = 4 + 2 + 4 + 4 + 4 + 4;
+    
+    private static final PowerUp.Type[] POWERUP_TYPES = PowerUp.Type.values();
+    
+    private CompiledLevel() {
+    }
+    
+    // the whole .jrl file for a loaded level
+    public static ByteBuffer encode(LevelLoader.LevelData data, int level, int sourceCrc) {
+        int payload = 8 + data.tileMap.encodedSize()
+            + 4 + data.collisionSpans.size() * 32
+            + 4 + data.fossils.size() * 16
+            + 4 + data.powerUps.size() * 17
+            + 4;
+        for (Enemy e : data.enemies) {
+            payload += stringSize(e.getType()) + 8 * 4 + 4;
+        }
+        
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + payload);
+        out.position(HEADER_SIZE);
+        out.putDouble(data.gateX);
+        data.tileMap.writeTo(out);
+        
+        out.putInt(data.collisionSpans.size());
+        for (CollisionSpan span : data.collisionSpans) {
+            out.putDouble(span.getX()).putDouble(span.getY()).putDouble(span.getWidth()).putDouble(span.getHeight());
+        }
+        out.putInt(data.fossils.size());
+        for (Fossil f : data.fossils) {
+            out.putDouble(f.getX()).putDouble(f.getY());
+        }
+        out.putInt(data.powerUps.size());
+        for (PowerUp p : data.powerUps) {
+            out.put((byte) p.getType().ordinal()).putDouble(p.getX()).putDouble(p.getY());
+        }
+        out.putInt(data.enemies.size());
+        for (Enemy e : data.enemies) {
+            putString(out, e.getType());
+            out.putDouble(e.getX()).putDouble(e.getY()).putDouble(e.getSpeed()).putDouble(e.getScale());
+            out.putInt(e.getPatrolDistance());
+        }
+        
+        ByteBuffer body = out.duplicate();
+        body.position(HEADER_SIZE).limit(out.capacity());
+        out.position(0);
+        out.putInt(MAGIC).putShort(VERSION).putInt(level).putInt(sourceCrc).putInt(payload).putInt(crc(body));
+        out.position(0);
+        return out;
+    }
+    
+    // rebuild a level from a .jrl file, IOException if it is not one, is for another level or version,
+    // is corrupt, or was compiled from different text than sourceCrc (unless that is ANY_SOURCE)
+    public static LevelLoader.LevelData decode(ByteBuffer in, int level, int sourceCrc) throws IOException {
+        if (in.remaining() < HEADER_SIZE || in.getInt() != MAGIC) throw new IOException("not a compiled level");
+        short version = in.getShort();
+        if (version != VERSION) throw new IOException("format version " + version + ", expected " + VERSION);
+        int fileLevel = in.getInt();
+        if (fileLevel != level) throw new IOException("compiled for level " + fileLevel);
+        int fileSource = in.getInt();
+        if (sourceCrc != ANY_SOURCE && fileSource != sourceCrc) throw new IOException("stale, level text has changed");
+        int payload = in.getInt();
+        int payloadCrc = in.getInt();
+        if (payload != in.remaining()) throw new IOException("truncated");
+        if (crc(in.duplicate()) != payloadCrc) throw new IOException("checksum mismatch");
+        
+        LevelLoader.LevelData data = new LevelLoader.LevelData();
+        data.gateX = in.getDouble();
+        data.tileMap = TileMap.readFrom(in);
+        
+        int spans = in.getInt();
+        data.collisionSpans.ensureCapacity(spans);
+        for (int i = 0; i < spans; i++) {
+            data.collisionSpans.add(new CollisionSpan(in.getDouble(), in.getDouble(), in.getDouble(), in.getDouble()));
+        }
+        int fossils = in.getInt();
+        String fossilTexture = LevelLoader.fossilTexture(level);
+        for (int i = 0; i < fossils; i++) {
+            data.fossils.add(new Fossil(in.getDouble(), in.getDouble(), fossilTexture));
+        }
+        int powerUps = in.getInt();
+        for (int i = 0; i < powerUps; i++) {
+            PowerUp.Type type = POWERUP_TYPES[in.get()];
+            data.powerUps.add(new PowerUp(in.getDouble(), in.getDouble(), type, LevelLoader.powerUpTexture(type)));
+        }
+        int enemies = in.getInt();
+        for (int i = 0; i < enemies; i++) {
+            Enemy enemy = new Enemy(getString(in), in.getDouble(), in.getDouble());
+            enemy.setSpeed(in.getDouble());
+            enemy.setScale(in.getDouble());
+            enemy.setPatrolDistance(in.getInt());
+            data.enemies.add(enemy);
+        }
+        
+        LevelLoader.computePatrolSpans(data);
+        return data;
+    }
+    
+    // crc32 of the remaining bytes, the buffer's position moves to its limit
+    public static int crc(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+    
+    static int stringSize(String s) {
+        return 2 + s.getBytes(StandardCharsets.UTF_8).length;
+    }
+    
+    static void putString(ByteBuffer out, String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length).put(bytes);
+    }
+    
+    static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort() & 0xFFFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
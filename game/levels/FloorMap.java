@@ -0,0 +1,137 @@
+package game.levels;
+
+import java.util.Arrays;
+
+// per-column summary of the terrain, built once when a level loads
+// one entry per tile-wide x slice: the highest and lowest block top in that slice, and the
+// runs of slices with no block at all (pits). "Is there ground under me" and "am I over a pit"
+// are then a few array reads instead of a platform scan every step
+public class FloorMap {
+    private final int columnWidth;
+    private final int columns;
+    
+    private final double[] highest; // top of the highest block per column, +infinity = no block
+    private final double[] lowest; // top of the lowest block per column, -infinity = no block
+    private final int[] pitIndex; // pit a column belongs to, -1 = column has ground
+    
+    // pits as column ranges, pit i covers columns pitStart[i] .. pitEnd[i] inclusive
+    private int[] pitStart = new int[8];
+    private int[] pitEnd = new int[8];
+    private int pitCount;
+    
+    public FloorMap(TileMap terrain) {
+        this.columnWidth = terrain.getTileSize();
+        this.columns = terrain.getCols();
+        this.highest = new double[columns];
+        this.lowest = new double[columns];
+        this.pitIndex = new int[columns];
+        Arrays.fill(highest, Double.POSITIVE_INFINITY);
+        Arrays.fill(lowest, Double.NEGATIVE_INFINITY);
+        
+        for (int row = 0; row < terrain.getRows(); row++) {
+            for (int col = 0; col < columns; col++) {
+                if (terrain.getTile(col, row) != TileMap.EMPTY) {
+                    addBlock(terrain.getTileX(col, row), terrain.getTileY(col, row));
+                }
+            }
+        }
+        for (int i = 0; i < terrain.getOverflowCount(); i++) {
+            addBlock(terrain.getOverflowX(i), terrain.getOverflowY(i));
+        }
+        
+        findPits();
+    }
+    
+    // a block is one column wide but may sit between two columns, count it in every column it overlaps
+    private void addBlock(double x, double y) {
+        int first = Math.max(0, (int) Math.floor(x / columnWidth));
+        int last = Math.min(columns - 1, (int) Math.ceil((x + columnWidth) / columnWidth) - 1);
+        for (int col = first; col <= last; col++) {
+            highest[col] = Math.min(highest[col], y);
+            lowest[col] = Math.max(lowest[col], y);
+        }
+    }
+    
+    private void findPits() {
+        int col = 0;
+        while (col < columns) {
+            if (lowest[col] != Double.NEGATIVE_INFINITY) {
+                pitIndex[col++] = -1;
+                continue;
+            }
+            
+            if (pitCount == pitStart.length) {
+                pitStart = Arrays.copyOf(pitStart, pitCount * 2);
+                pitEnd = Arrays.copyOf(pitEnd, pitCount * 2);
+            }
+            pitStart[pitCount] = col;
+            while (col < columns && lowest[col] == Double.NEGATIVE_INFINITY) {
+                pitIndex[col++] = pitCount;
+            }
+            pitEnd[pitCount] = col - 1;
+            pitCount++;
+        }
+    }
+    
+    // column holding a world x, clamped to the map
+    public int columnAt(double x) {
+        int col = (int) Math.floor(x / columnWidth);
+        return col < 0 ? 0 : (col >= columns ? columns - 1 : col);
+    }
+    
+    // is there a block top at or below y anywhere under the span x .. x + width
+    public boolean hasGroundBelow(double x, double width, double y) {
+        int first = columnAt(x);
+        int last = columnAt(x + width - 0.001); // right edge is open, like the platform overlap tests
+        for (int col = first; col <= last; col++) {
+            if (lowest[col] >= y) return true;
+        }
+        return false;
+    }
+    
+    // is every column under the span x .. x + width empty
+    public boolean isOverPit(double x, double width) {
+        int first = columnAt(x);
+        int last = columnAt(x + width - 0.001);
+        for (int col = first; col <= last; col++) {
+            if (pitIndex[col] < 0) return false;
+        }
+        return true;
+    }
+    
+    // top of the highest block in a column, +infinity over a pit
+    public double getSurfaceY(int col) {
+        return highest[col];
+    }
+    
+    // top of the lowest block in a column, -infinity over a pit
+    public double getLowestSurfaceY(int col) {
+        return lowest[col];
+    }
+    
+    // pit a column belongs to, -1 if it has ground
+    public int getPitAt(int col) {
+        return pitIndex[col];
+    }
+    
+    public int getPitCount() {
+        return pitCount;
+    }
+    
+    // pit edges in world pixels, end is exclusive
+    public double getPitStartX(int i) {
+        return pitStart[i] * (double) columnWidth;
+    }
+    
+    public double getPitEndX(int i) {
+        return (pitEnd[i] + 1) * (double) columnWidth;
+    }
+    
+    public int getColumns() {
+        return columns;
+    }
+    
+    public int getColumnWidth() {
+        return columnWidth;
+    }
+}
\ No newline at end of file
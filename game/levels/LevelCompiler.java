@@ -0,0 +1,52 @@
+package game.levels;
+
+import game.util.ImageCache;
+import game.util.Log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// turns level text into compiled .jrl files (see CompiledLevel) next to it
+// usage: java game.levels.LevelCompiler [levels dir]   (default: levels)
+// compiles level1.txt, level2.txt, ... until one is missing; rerun after editing a level -
+// a compiled file whose text has changed is ignored by the loader until it is rebuilt
+// the .jrl files are build output, they are not committed
+public class LevelCompiler {
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "levels");
+        ImageCache.setHeadless(true); // the level objects are only read back out, nothing is drawn
+        
+        int compiled = 0;
+        for (int level = 1; ; level++) {
+            Path source = dir.resolve("level" + level + ".txt");
+            if (!Files.exists(source)) break;
+            
+            ByteBuffer text = ByteBuffer.wrap(Files.readAllBytes(source));
+            int sourceCrc = CompiledLevel.crc(text.duplicate());
+            LevelLoader.LevelData data = LevelLoader.parseText(text, level, source.toString());
+            ByteBuffer out = CompiledLevel.encode(data, level, sourceCrc);
+            
+            Path target = dir.resolve("level" + level + CompiledLevel.EXTENSION);
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+            }
+            Log.info("Compiled {} -> {} ({} bytes, {} blocks, {} enemies)", source, target, Files.size(target),
+                     data.tileMap.getTileCount(), data.enemies.size());
+            compiled++;
+        }
+        
+        if (compiled == 0) {
+            Log.warn("No level files found in {}", dir.toAbsolutePath());
+        }
+        Log.flush(); // the log writer is a daemon thread, don't exit with lines still queued
+    }
+}
\ No newline at end of file
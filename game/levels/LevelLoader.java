@@ -1,299 +1,449 @@
-package game.levels;
-
-import game.entities.*;
-import game.GameConfig;
-
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.InputStream;
-import java.util.ArrayList;
-
-public class LevelLoader {
-    
-    public static class LevelData {
-        public ArrayList<Platform> platforms;
-        public ArrayList<Fossil> fossils;
-        public ArrayList<PowerUp> powerUps;
-        public ArrayList<Enemy> enemies;
-        public double gateX;
-        
-        public LevelData() {
-            platforms = new ArrayList<>();
-            fossils = new ArrayList<>();
-            powerUps = new ArrayList<>();
-            enemies = new ArrayList<>();
-            gateX = GameConfig.GATE_X_POSITION;
-        }
-    }
-    
-    public static LevelData loadLevelFromFile(int level) {
-        LevelData data = new LevelData();
-        String path = "/assets/levels/level" + level + ".txt";
-        
-        try {
-            // Use getResourceAsStream instead of FileReader
-            InputStream inputStream = LevelLoader.class.getResourceAsStream(path);
-            
-            if (inputStream == null) {
-                System.err.println("Could not find resource: " + path);
-                return createFallbackLevel(level);
-            }
-            
-            BufferedReader br = new BufferedReader(new InputStreamReader(inputStream));
-            String line;
-            
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty() || line.startsWith("#")) continue;
-                
-                String[] tokens = line.split(" ");
-                
-                switch (tokens[0]) {
-                    case "BLOCK":
-                        parsePlatform(tokens, level, data);
-                        break;
-                    case "FOSSIL":
-                        parseFossil(tokens, level, data);
-                        break;
-                    case "POWERUP":
-                        parsePowerUp(tokens, data);
-                        break;
-                    case "ENEMY":
-                        parseEnemy(tokens, level, data);
-                        break;
-                    case "GATE":
-                        parseGate(tokens, data);
-                        break;
-                }
-            }
-            
-            br.close();
-            
-        } catch (Exception e) {
-            System.out.println("Level text load error for level " + level + ": " + e.getMessage());
-            e.printStackTrace();
-            return createFallbackLevel(level);
-        }
-        
-        return data;
-    }
-    
-    private static void parsePlatform(String[] tokens, int level, LevelData data) {
-        double x = Double.parseDouble(tokens[1]);
-        double y = Double.parseDouble(tokens[2]);
-        
-        double pixelX = x;
-        double pixelY = y;
-        
-        if (x < 100 && y < 100) {
-            pixelX = x * GameConfig.BLOCK_SIZE;
-            pixelY = y * GameConfig.BLOCK_SIZE;
-            System.out.println("Converted tile coordinates: (" + x + "," + y + ") to pixels: (" + pixelX + "," + pixelY + ")");
-        }
-        
-        double adjustedY = adjustPlatformY(pixelY);
-        
-        // Use resource path (no "file:" prefix)
-        String tex = "/assets/blocks/newblock" + level + ".png";
-        Platform platform = new Platform(pixelX, adjustedY, tex);
-        data.platforms.add(platform);
-    }
-    
-    private static void parseFossil(String[] tokens, int level, LevelData data) {
-        double x = Double.parseDouble(tokens[1]);
-        double y = Double.parseDouble(tokens[2]);
-        
-        double pixelX = x;
-        double pixelY = y;
-        
-        if (x < 100 && y < 100) {
-            pixelX = x * GameConfig.BLOCK_SIZE;
-            pixelY = y * GameConfig.BLOCK_SIZE;
-        }
-        
-        double adjustedY = pixelY - (GameConfig.FOSSIL_SIZE - 28) / 2;
-        
-        // Use resource path (no "file:" prefix)
-        String tex = "/assets/images/fossils/fossil" + level + ".png";
-        Fossil fossil = new Fossil(pixelX, adjustedY, tex);
-        data.fossils.add(fossil);
-        System.out.println("Loaded fossil at: (" + pixelX + ", " + adjustedY + ")");
-    }
-    
-    private static void parsePowerUp(String[] tokens, LevelData data) {
-        double x = Double.parseDouble(tokens[1]);
-        double y = Double.parseDouble(tokens[2]);
-        
-        double pixelX = x;
-        double pixelY = y;
-        
-        if (x < 100 && y < 100) {
-            pixelX = x * GameConfig.BLOCK_SIZE;
-            pixelY = y * GameConfig.BLOCK_SIZE;
-        }
-        
-        PowerUp.Type type = PowerUp.Type.valueOf(tokens[3].toUpperCase());
-        // Use resource path (no "file:" prefix)
-        String tex = "/assets/powerups/" + tokens[3].toLowerCase() + ".png";
-        PowerUp powerUp = new PowerUp(pixelX, pixelY, type, tex);
-        data.powerUps.add(powerUp);
-    }
-    
-    private static void parseEnemy(String[] tokens, int level, LevelData data) {
-        String type = tokens[1].toLowerCase();
-        double x = Double.parseDouble(tokens[2]);
-        double y = Double.parseDouble(tokens[3]);
-        
-        double pixelX = x;
-        double pixelY = y;
-        
-        if (x < 100 && y < 100) {
-            pixelX = x * GameConfig.BLOCK_SIZE;
-            pixelY = y * GameConfig.BLOCK_SIZE;
-            System.out.println("Converted enemy tile coordinates: (" + x + "," + y + ") to pixels: (" + pixelX + "," + pixelY + ")");
-        }
-        
-        double adjustedY = pixelY - 60;
-        
-        Enemy enemy = new Enemy(type, pixelX, adjustedY);
-        enemy.setScale(GameConfig.ENEMY_SCALE_FACTOR);
-        
-        adjustEnemySpeed(enemy, level);
-        setEnemyPatrolDistance(enemy, level);
-        
-        data.enemies.add(enemy);
-        System.out.println("Loaded " + type + " enemy at: (" + pixelX + ", " + adjustedY + ") - Original Y: " + pixelY);
-    }
-    
-    private static void parseGate(String[] tokens, LevelData data) {
-        double x = Double.parseDouble(tokens[1]);
-        
-        if (x < 100) {
-            data.gateX = x * GameConfig.BLOCK_SIZE;
-            System.out.println("Converted gate tile coordinate: " + x + " to pixels: " + data.gateX);
-        } else {
-            data.gateX = x;
-        }
-        System.out.println("Gate position set to: " + data.gateX);
-    }
-    
-    private static double adjustPlatformY(double originalY) {
-        double groundLevel = 500;
-        double platformHeight = Platform.SIZE;
-        
-        if (originalY + platformHeight > groundLevel + 50) {
-            double adjustedY = groundLevel - platformHeight;
-            System.out.println("Adjusting platform Y from " + originalY + " to " + adjustedY);
-            return adjustedY;
-        }
-        
-        return originalY;
-    }
-    
-    private static void adjustEnemySpeed(Enemy enemy, int level) {
-        String type = enemy.getType().toLowerCase();
-        
-        if ("pterodactyl".equals(type) && level == 2) {
-            enemy.setSpeed(0.5);
-            System.out.println("Adjusted pterodactyl speed for level 2: 0.5");
-            return;
-        }
-        
-        switch (level) {
-            case 1:
-                enemy.setSpeed(0.4);
-                break;
-            case 2:
-                enemy.setSpeed(0.5);
-                break;
-            case 3:
-                enemy.setSpeed(0.6);
-                break;
-            case 4:
-                enemy.setSpeed(0.8);
-                break;
-        }
-    }
-    
-    private static void setEnemyPatrolDistance(Enemy enemy, int level) {
-        int patrolDistance = GameConfig.DEFAULT_PATROL_DISTANCE;
-        
-        switch (level) {
-            case 1:
-            case 2:
-            case 3:
-            case 4:
-                patrolDistance = GameConfig.DEFAULT_PATROL_DISTANCE;
-                break;
-        }
-        
-        enemy.setPatrolDistance(patrolDistance);
-        System.out.println("Set " + enemy.getType() + " patrol distance to " + patrolDistance + " blocks on level " + level);
-    }
-    
-    private static LevelData createFallbackLevel(int level) {
-        System.out.println("Creating fallback level for level " + level + "...");
-        
-        LevelData data = new LevelData();
-        
-        for (int i = 0; i < 300; i++) {
-            data.platforms.add(new Platform(i * GameConfig.BLOCK_SIZE, 468, "/assets/blocks/block1.png"));
-        }
-        
-        data.platforms.add(new Platform(500, 368, "/assets/blocks/block1.png"));
-        data.platforms.add(new Platform(600, 368, "/assets/blocks/block1.png"));
-        data.platforms.add(new Platform(1500, 368, "/assets/blocks/block1.png"));
-        data.platforms.add(new Platform(1600, 368, "/assets/blocks/block1.png"));
-        
-        for (int i = 0; i < GameConfig.FOSSILS_PER_LEVEL; i++) {
-            double x = 800 + (i * 200);
-            double y = 400;
-            Fossil fossil = new Fossil(x, y, "/assets/images/fossils/fossil" + level + ".png");
-            data.fossils.add(fossil);
-        }
-        
-        PowerUp powerUp1 = new PowerUp(450, 400, PowerUp.Type.SPEED, "/assets/images/powerups/speed.png");
-        data.powerUps.add(powerUp1);
-        
-        PowerUp powerUp2 = new PowerUp(1200, 300, PowerUp.Type.JUMP, "/assets/images/powerups/jump.png");
-        data.powerUps.add(powerUp2);
-        
-        PowerUp powerUp3 = new PowerUp(2000, 400, PowerUp.Type.INVINCIBLE, "/assets/images/powerups/invincible.png");
-        data.powerUps.add(powerUp3);
-        
-        switch (level) {
-            case 1:
-                addFallbackEnemy("raptor", 1000, 468, data);
-                addFallbackEnemy("raptor", 1800, 468, data);
-                break;
-            case 2:
-                addFallbackEnemy("pterodactyl", 1000, 300, data);
-                addFallbackEnemy("pterodactyl", 1500, 250, data);
-                break;
-            case 3:
-                addFallbackEnemy("triceratops", 1000, 468, data);
-                addFallbackEnemy("triceratops", 1800, 468, data);
-                addFallbackEnemy("raptor", 2200, 468, data);
-                break;
-            case 4:
-                addFallbackEnemy("trex", 1200, 468, data);
-                addFallbackEnemy("pterodactyl", 800, 200, data);
-                addFallbackEnemy("triceratops", 2000, 468, data);
-                break;
-        }
-        
-        data.gateX = GameConfig.GATE_X_POSITION;
-        
-        System.out.println("Fallback level " + level + " created with " + data.enemies.size() + " enemies");
-        return data;
-    }
-    
-    private static void addFallbackEnemy(String type, double x, double y, LevelData data) {
-        double adjustedY = y - 60;
-        Enemy enemy = new Enemy(type, x, adjustedY);
-        enemy.setScale(GameConfig.ENEMY_SCALE_FACTOR);
-        enemy.setPatrolDistance(GameConfig.DEFAULT_PATROL_DISTANCE);
-        data.enemies.add(enemy);
-        System.out.println("Added fallback " + type + " with " + GameConfig.DEFAULT_PATROL_DISTANCE + "-block patrol at (" + x + ", " + adjustedY + ")");
-    }
+package game.levels;
+
+import game.entities.*;
+import game.GameConfig;
+import game.util.Log;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+public class LevelLoader {
+    private static final String[] ENEMY_NAMES = enemyNames(); // level-file names of the known enemy types
+    private static final PowerUp.Type[] POWERUP_TYPES = PowerUp.Type.values();
+    private static final String[] POWERUP_NAMES = new String[POWERUP_TYPES.length];
+    static {
+        for (int i = 0; i < POWERUP_TYPES.length; i++) {
+            POWERUP_NAMES[i] = POWERUP_TYPES[i].name();
+        }
+    }
+    
+    public static class LevelData {
+        public TileMap tileMap; // static terrain
+        public ArrayList<CollisionSpan> collisionSpans; // merged terrain rectangles, filled in once the level is read
+        public ArrayList<Fossil> fossils;
+        public ArrayList<PowerUp> powerUps;
+        public ArrayList<Enemy> enemies;
+        public double gateX;
+        
+        public LevelData() {
+            this(GameConfig.DEFAULT_WORLD_WIDTH);
+        }
+        
+        // the world is worldWidth rounded up to whole blocks, tileMap.getWidth() has the exact figure
+        public LevelData(double worldWidth) {
+            tileMap = new TileMap(worldWidth, GameConfig.WINDOW_HEIGHT, GameConfig.BLOCK_SIZE);
+            collisionSpans = new ArrayList<>();
+            fossils = new ArrayList<>();
+            powerUps = new ArrayList<>();
+            enemies = new ArrayList<>();
+            gateX = tileMap.getWidth() - GameConfig.GATE_END_MARGIN;
+        }
+    }
+    
+    // load a level, from its compiled .jrl file when there is an up-to-date one, otherwise from the text
+    public static LevelData loadLevelFromFile(int level) {
+        String base = "/assets/levels/level" + level;
+        String path = base + ".txt";
+        long start = System.nanoTime();
+        
+        try {
+            // Use getResourceAsStream instead of FileReader
+            InputStream inputStream = LevelLoader.class.getResourceAsStream(path);
+            ByteBuffer text = null;
+            if (inputStream != null) {
+                // whole file in one buffer, the scanner parses it in place without a string per line
+                text = ByteBuffer.wrap(inputStream.readAllBytes());
+                inputStream.close();
+            }
+            
+            LevelData data = loadCompiled(level, base + CompiledLevel.EXTENSION, text);
+            if (data == null) {
+                if (text == null) {
+                    Log.warn("Could not find resource: {}", path);
+                    return createFallbackLevel(level);
+                }
+                data = parseText(text, level, path);
+            }
+            Log.info("Level {} loaded in {} ms", level, (System.nanoTime() - start) / 1_000_000.0);
+            return data;
+            
+        } catch (Exception e) {
+            Log.error("Level text load error for level {}", level, e);
+            return createFallbackLevel(level);
+        }
+    }
+    
+    // compiled level if there is one built from this text, null to fall back to parsing
+    // the text is only checksummed here, which costs next to nothing next to parsing it
+    private static LevelData loadCompiled(int level, String path, ByteBuffer text) {
+        try {
+            ByteBuffer bytes = mapResource(path);
+            if (bytes == null) return null;
+            
+            int sourceCrc = text != null ? CompiledLevel.crc(text.duplicate()) : CompiledLevel.ANY_SOURCE;
+            LevelData data = CompiledLevel.decode(bytes, level, sourceCrc);
+            Log.info("Loaded compiled level {}", path);
+            return data;
+        } catch (IOException e) {
+            Log.warn("Ignoring {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+    
+    // a resource's bytes, memory-mapped when it is a plain file, else copied once into a direct buffer (jars)
+    private static ByteBuffer mapResource(String path) throws IOException {
+        URL url = LevelLoader.class.getResource(path);
+        if (url == null) return null;
+        
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            byte[] bytes = in.readAllBytes();
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).flip();
+            return direct;
+        }
+    }
+    
+    // build a level from its text, also used by LevelCompiler
+    static LevelData parseText(ByteBuffer bytes, int level, String path) {
+        LevelData data = parseLines(bytes, level, path);
+        finishTerrain(data);
+        return data;
+    }
+    
+    // the line by line part of parseText: the tile map and the level's objects, no collision or patrol spans yet
+    // public so HeadlessGame's --parse-bench can time and measure it apart from the terrain pass that follows
+    public static LevelData parseLines(ByteBuffer bytes, int level, String path) {
+        LevelData data = new LevelData(measureWidth(bytes, path));
+        LevelScanner scan = new LevelScanner(bytes, path);
+        int blockTexture = TileMap.EMPTY; // texture id of every block, registered with the first one
+        
+        int keyword;
+        while ((keyword = scan.nextLine()) != LevelScanner.EOF) {
+            switch (keyword) {
+                case LevelScanner.BLOCK: {
+                    double x = scan.nextNumber();
+                    double y = scan.nextNumber();
+                    if (scan.accept()) {
+                        if (blockTexture == TileMap.EMPTY) blockTexture = data.tileMap.textureId(blockTexture(level));
+                        parsePlatform(x, y, blockTexture, data);
+                    }
+                    break;
+                }
+                case LevelScanner.FOSSIL: {
+                    double x = scan.nextNumber();
+                    double y = scan.nextNumber();
+                    if (scan.accept()) parseFossil(x, y, level, data);
+                    break;
+                }
+                case LevelScanner.POWERUP: {
+                    double x = scan.nextNumber();
+                    double y = scan.nextNumber();
+                    int type = scan.nextWord() ? scan.tokenIndex(POWERUP_NAMES) : -1;
+                    if (type < 0) scan.reject(); // missing or not a power-up we have
+                    if (scan.accept()) parsePowerUp(x, y, POWERUP_TYPES[type], data);
+                    break;
+                }
+                case LevelScanner.ENEMY: {
+                    String type = scan.nextWord() ? enemyName(scan) : null;
+                    double x = scan.nextNumber();
+                    double y = scan.nextNumber();
+                    if (scan.accept()) parseEnemy(type, x, y, level, data);
+                    break;
+                }
+                case LevelScanner.GATE: {
+                    double x = scan.nextNumber();
+                    if (scan.accept()) parseGate(x, data);
+                    break;
+                }
+                case LevelScanner.WIDTH: // already applied by measureWidth, only checked here
+                    if (scan.nextNumber() <= 0) scan.reject();
+                    scan.accept();
+                    break;
+                default:
+                    scan.warn("unknown keyword"); // typos like BLOK used to vanish without a word
+                    break;
+            }
+        }
+        
+        if (scan.getWarningCount() > 0) {
+            Log.warn("{}: {} lines skipped", path, scan.getWarningCount());
+        }
+        return data;
+    }
+        
+    // what parseText builds once every line is in: the collision spans, then the enemies' patrol spans over them
+    static void finishTerrain(LevelData data) {
+        data.collisionSpans = data.tileMap.createCollisionSpans();
+        computePatrolSpans(data);
+    }
+    
+    // world width for a level: its WIDTH line when it has one, otherwise the default widened to take in
+    // any block or gate placed past it. A quick pass over the text, the tile map is sized from it before the real one
+    private static double measureWidth(ByteBuffer bytes, String path) {
+        LevelScanner scan = new LevelScanner(bytes, path);
+        double width = GameConfig.DEFAULT_WORLD_WIDTH;
+        int keyword;
+        while ((keyword = scan.nextLine()) != LevelScanner.EOF) {
+            if (keyword == LevelScanner.WIDTH) {
+                double w = scan.nextNumber();
+                if (!scan.isMalformed() && w > 0) return w;
+            } else if (keyword == LevelScanner.BLOCK) {
+                double x = scan.nextNumber();
+                double y = scan.nextNumber();
+                if (x < 100 && y < 100) x *= GameConfig.BLOCK_SIZE;
+                if (!scan.isMalformed()) width = Math.max(width, x + GameConfig.BLOCK_SIZE);
+            } else if (keyword == LevelScanner.GATE) {
+                double x = scan.nextNumber();
+                if (x < 100) x *= GameConfig.BLOCK_SIZE;
+                if (!scan.isMalformed()) width = Math.max(width, x + Gate.WIDTH);
+            }
+        }
+        return width;
+    }
+    
+    // texture is the tile map id of the level's block texture, looked up once per parse rather than per line
+    private static void parsePlatform(double x, double y, int texture, LevelData data) {
+        double pixelX = x;
+        double pixelY = y;
+        
+        if (x < 100 && y < 100) {
+            pixelX = x * GameConfig.BLOCK_SIZE;
+            pixelY = y * GameConfig.BLOCK_SIZE;
+            if (Log.isDebugEnabled()) {
+                Log.debug("Converted tile coordinates: ({},{}) to pixels: ({},{})", x, y, pixelX, pixelY);
+            }
+        }
+        
+        double adjustedY = adjustPlatformY(pixelY);
+        data.tileMap.addTile(pixelX, adjustedY, texture);
+    }
+    
+    private static void parseFossil(double x, double y, int level, LevelData data) {
+        double pixelX = x;
+        double pixelY = y;
+        
+        if (x < 100 && y < 100) {
+            pixelX = x * GameConfig.BLOCK_SIZE;
+            pixelY = y * GameConfig.BLOCK_SIZE;
+        }
+        
+        double adjustedY = pixelY - (GameConfig.FOSSIL_SIZE - 28) / 2;
+        
+        // Use resource path (no "file:" prefix)
+        Fossil fossil = new Fossil(pixelX, adjustedY, fossilTexture(level));
+        data.fossils.add(fossil);
+        Log.debug("Loaded fossil at: ({}, {})", pixelX, adjustedY);
+    }
+    
+    private static void parsePowerUp(double x, double y, PowerUp.Type type, LevelData data) {
+        double pixelX = x;
+        double pixelY = y;
+        
+        if (x < 100 && y < 100) {
+            pixelX = x * GameConfig.BLOCK_SIZE;
+            pixelY = y * GameConfig.BLOCK_SIZE;
+        }
+        
+        PowerUp powerUp = new PowerUp(pixelX, pixelY, type, powerUpTexture(type));
+        data.powerUps.add(powerUp);
+    }
+    
+    private static void parseEnemy(String type, double x, double y, int level, LevelData data) {
+        double pixelX = x;
+        double pixelY = y;
+        
+        if (x < 100 && y < 100) {
+            pixelX = x * GameConfig.BLOCK_SIZE;
+            pixelY = y * GameConfig.BLOCK_SIZE;
+            Log.debug("Converted enemy tile coordinates: ({},{}) to pixels: ({},{})", x, y, pixelX, pixelY);
+        }
+        
+        double adjustedY = pixelY - 60;
+        
+        Enemy enemy = new Enemy(type, pixelX, adjustedY);
+        enemy.setScale(GameConfig.ENEMY_SCALE_FACTOR);
+        
+        adjustEnemySpeed(enemy, level);
+        setEnemyPatrolDistance(enemy, level);
+        
+        data.enemies.add(enemy);
+        Log.debug("Loaded {} enemy at: ({}, {}) - Original Y: {}", type, pixelX, adjustedY, pixelY);
+    }
+    
+    // Use resource paths (no "file:" prefix)
+    static String blockTexture(int level) {
+        return "/assets/blocks/newblock" + level + ".png";
+    }
+    
+    static String fossilTexture(int level) {
+        return "/assets/images/fossils/fossil" + level + ".png";
+    }
+    
+    static String powerUpTexture(PowerUp.Type type) {
+        return "/assets/powerups/" + type.name().toLowerCase() + ".png";
+    }
+    
+    // enemy name on the scanner's current word - the shared id string for known types, a copy otherwise
+    private static String enemyName(LevelScanner scan) {
+        int known = scan.tokenIndex(ENEMY_NAMES);
+        return known >= 0 ? ENEMY_NAMES[known] : scan.tokenText().toLowerCase();
+    }
+    
+    private static String[] enemyNames() {
+        ArrayList<String> names = new ArrayList<>();
+        for (EnemyType t : EnemyType.values()) {
+            if (t.getId() != null) names.add(t.getId());
+        }
+        return names.toArray(new String[0]);
+    }
+    
+    // enemies and blocks come in any order in the file, so spans wait until all terrain is in
+    static void computePatrolSpans(LevelData data) {
+        for (Enemy enemy : data.enemies) {
+            enemy.computePatrolSpan(data.tileMap);
+        }
+    }
+    
+    private static void parseGate(double x, LevelData data) {
+        if (x < 100) {
+            data.gateX = x * GameConfig.BLOCK_SIZE;
+            Log.debug("Converted gate tile coordinate: {} to pixels: {}", x, data.gateX);
+        } else {
+            data.gateX = x;
+        }
+        Log.debug("Gate position set to: {}", data.gateX);
+    }
+    
+    private static double adjustPlatformY(double originalY) {
+        double groundLevel = 500;
+        double platformHeight = GameConfig.PLATFORM_SIZE;
+        
+        if (originalY + platformHeight > groundLevel + 50) {
+            double adjustedY = groundLevel - platformHeight;
+            if (Log.isDebugEnabled()) Log.debug("Adjusting platform Y from {} to {}", originalY, adjustedY);
+            return adjustedY;
+        }
+        
+        return originalY;
+    }
+    
+    private static void adjustEnemySpeed(Enemy enemy, int level) {
+        if (enemy.getEnemyType() == EnemyType.PTERODACTYL && level == 2) {
+            enemy.setSpeed(0.5);
+            Log.debug("Adjusted pterodactyl speed for level 2: 0.5");
+            return;
+        }
+        
+        switch (level) {
+            case 1:
+                enemy.setSpeed(0.4);
+                break;
+            case 2:
+                enemy.setSpeed(0.5);
+                break;
+            case 3:
+                enemy.setSpeed(0.6);
+                break;
+            case 4:
+                enemy.setSpeed(0.8);
+                break;
+        }
+    }
+    
+    private static void setEnemyPatrolDistance(Enemy enemy, int level) {
+        int patrolDistance = GameConfig.DEFAULT_PATROL_DISTANCE;
+        
+        switch (level) {
+            case 1:
+            case 2:
+            case 3:
+            case 4:
+                patrolDistance = GameConfig.DEFAULT_PATROL_DISTANCE;
+                break;
+        }
+        
+        enemy.setPatrolDistance(patrolDistance);
+        Log.debug("Set {} patrol distance to {} blocks on level {}", enemy.getType(), patrolDistance, level);
+    }
+    
+    private static LevelData createFallbackLevel(int level) {
+        Log.warn("Creating fallback level for level {}...", level);
+        
+        LevelData data = new LevelData();
+        
+        for (int i = 0; i < 300; i++) {
+            data.tileMap.addTile(i * GameConfig.BLOCK_SIZE, 468, "/assets/blocks/block1.png");
+        }
+        
+        data.tileMap.addTile(500, 368, "/assets/blocks/block1.png");
+        data.tileMap.addTile(600, 368, "/assets/blocks/block1.png");
+        data.tileMap.addTile(1500, 368, "/assets/blocks/block1.png");
+        data.tileMap.addTile(1600, 368, "/assets/blocks/block1.png");
+        data.collisionSpans = data.tileMap.createCollisionSpans();
+        
+        for (int i = 0; i < GameConfig.FOSSILS_PER_LEVEL; i++) {
+            double x = 800 + (i * 200);
+            double y = 400;
+            Fossil fossil = new Fossil(x, y, "/assets/images/fossils/fossil" + level + ".png");
+            data.fossils.add(fossil);
+        }
+        
+        PowerUp powerUp1 = new PowerUp(450, 400, PowerUp.Type.SPEED, "/assets/images/powerups/speed.png");
+        data.powerUps.add(powerUp1);
+        
+        PowerUp powerUp2 = new PowerUp(1200, 300, PowerUp.Type.JUMP, "/assets/images/powerups/jump.png");
+        data.powerUps.add(powerUp2);
+        
+        PowerUp powerUp3 = new PowerUp(2000, 400, PowerUp.Type.INVINCIBLE, "/assets/images/powerups/invincible.png");
+        data.powerUps.add(powerUp3);
+        
+        switch (level) {
+            case 1:
+                addFallbackEnemy("raptor", 1000, 468, data);
+                addFallbackEnemy("raptor", 1800, 468, data);
+                break;
+            case 2:
+                addFallbackEnemy("pterodactyl", 1000, 300, data);
+                addFallbackEnemy("pterodactyl", 1500, 250, data);
+                break;
+            case 3:
+                addFallbackEnemy("triceratops", 1000, 468, data);
+                addFallbackEnemy("triceratops", 1800, 468, data);
+                addFallbackEnemy("raptor", 2200, 468, data);
+                break;
+            case 4:
+                addFallbackEnemy("trex", 1200, 468, data);
+                addFallbackEnemy("pterodactyl", 800, 200, data);
+                addFallbackEnemy("triceratops", 2000, 468, data);
+                break;
+        }
+        
+        computePatrolSpans(data);
+        
+        Log.info("Fallback level {} created with {} enemies", level, data.enemies.size());
+        return data;
+    }
+    
+    private static void addFallbackEnemy(String type, double x, double y, LevelData data) {
+        double adjustedY = y - 60;
+        Enemy enemy = new Enemy(type, x, adjustedY);
+        enemy.setScale(GameConfig.ENEMY_SCALE_FACTOR);
+        enemy.setPatrolDistance(GameConfig.DEFAULT_PATROL_DISTANCE);
+        data.enemies.add(enemy);
+        Log.debug("Added fallback {} with {}-block patrol at ({}, {})", type, GameConfig.DEFAULT_PATROL_DISTANCE, x, adjustedY);
+    }
 }
\ No newline at end of file
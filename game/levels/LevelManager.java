@@ -1,297 +1,677 @@
-package game.levels;
-
-import game.entities.*;
-import game.audio.AudioManager;
-import game.GameConfig;
-import javafx.scene.image.Image;
-import java.io.InputStream;
-
-import java.util.ArrayList;
-
-// handles level loading, data management, and transitions
-public class LevelManager {
-    private int currentLevel; // current level number (1-4)
-    
-    private Image mapImage; // background image for level
-    private double mapWidth; // total width of level in pixels
-    
-    private double spawnX; // player spawn X position
-    private double spawnY; // player spawn Y position
-    
-    private double gateX; // exit gate X position
-    
-    // these are loaded from level files
-    private ArrayList<Platform> platforms;
-    private ArrayList<Fossil> fossils;
-    private ArrayList<PowerUp> powerUps;
-    private ArrayList<Enemy> enemies;
-    
-    private int fossilsCollected; // how many fossils collected in current level
-    
-    private AudioManager audioManager; // for playing level music
-    
-    // initializes with default values
-    public LevelManager() {
-        this.currentLevel = 1;
-        this.mapWidth = GameConfig.WORLD_WIDTH;
-        this.spawnX = 80;
-        this.spawnY = 432;
-        this.gateX = GameConfig.GATE_X_POSITION;
-        
-        this.platforms = new ArrayList<>();
-        this.fossils = new ArrayList<>();
-        this.powerUps = new ArrayList<>();
-        this.enemies = new ArrayList<>();
-        
-        this.fossilsCollected = 0;
-        this.audioManager = AudioManager.getInstance();
-    }
-    
-    // load level data from file
-    public void loadLevel(int level) {
-        currentLevel = level;
-        fossilsCollected = 0;
-        
-        // clear previous level data
-        platforms.clear();
-        fossils.clear();
-        powerUps.clear();
-        enemies.clear();
-        
-        gateX = GameConfig.GATE_X_POSITION;
-        
-        System.out.println("==== LOADING LEVEL " + level + " ====");
-        
-        loadMapImage(level); // load background image
-        
-        // load level objects from text file
-        LevelLoader.LevelData data = LevelLoader.loadLevelFromFile(level);
-        
-        platforms = data.platforms;
-        fossils = data.fossils;
-        powerUps = data.powerUps;
-        enemies = data.enemies;
-        gateX = data.gateX;
-        
-        mapWidth = GameConfig.WORLD_WIDTH;
-        
-        adjustSpawnPosition(); // find safe spawn location
-        playLevelMusic(level); // start appropriate music
-        debugEnemyInfo(); // output debug info
-        
-        System.out.println("Platforms: " + platforms.size());
-        System.out.println("Fossils: " + fossils.size());
-        System.out.println("PowerUps: " + powerUps.size());
-        System.out.println("Enemies: " + enemies.size());
-        System.out.println("Map Width: " + mapWidth);
-        System.out.println("Gate X: " + gateX);
-        System.out.println("Spawn: (" + spawnX + ", " + spawnY + ")");
-    }
-    
-    // play appropriate music for level
-    private void playLevelMusic(int level) {
-        if (level == 4) {
-            audioManager.playLevel4Music(); // level 4 has eerie music
-            System.out.println("Playing Level 4 (scary) music");
-        } else {
-            audioManager.playLevel1_3Music(); // levels 1-3 share music
-            System.out.println("Playing Level 1-3 music");
-        }
-    }
-    
-    // load background map image
-    private void loadMapImage(int level) {
-        String mapPath = "/assets/maps/level" + level + ".png";
-        
-        try {
-            InputStream stream = LevelManager.class.getResourceAsStream(mapPath);
-            
-            if (stream == null) {
-                throw new Exception("Map image not found: " + mapPath);
-            }
-            
-            Image img = new Image(stream);
-            
-            if (!img.isError()) {
-                mapImage = img;
-                System.out.println("Loaded map image: " + mapPath);
-            } else {
-                throw new Exception("Map image load error.");
-            }
-        } catch (Exception e) {
-            System.out.println("Map load error: " + e.getMessage());
-            mapImage = null;
-        }
-    }
-    
-    // find safe spawn position on first platform
-    private void adjustSpawnPosition() {
-        if (!platforms.isEmpty()) {
-            Platform firstPlatform = null;
-            
-            // find leftmost platform near start
-            for (Platform p : platforms) {
-                if (p.getX() < 200) {
-                    if (firstPlatform == null || p.getX() < firstPlatform.getX()) {
-                        firstPlatform = p;
-                    }
-                }
-            }
-            
-            if (firstPlatform != null) {
-                spawnX = firstPlatform.getX() + 50;
-                spawnY = firstPlatform.getY() - 70; // spawn above platform
-                System.out.println("Adjusted spawn to platform: (" + spawnX + ", " + spawnY + ")");
-            } else {
-                // no platform found near start - use first platform
-                Platform p = platforms.get(0);
-                spawnX = p.getX() + 50;
-                spawnY = p.getY() - 70;
-                System.out.println("Using fallback spawn: (" + spawnX + ", " + spawnY + ")");
-            }
-        }
-    }
-    
-    // debug output for enemy data
-    private void debugEnemyInfo() {
-        System.out.println("=== ENEMY DEBUG INFO ===");
-        System.out.println("Total enemies loaded: " + enemies.size());
-        
-        for (int i = 0; i < enemies.size(); i++) {
-            Enemy enemy = enemies.get(i);
-            System.out.println("Enemy " + i + ": " + enemy.getType() + 
-                             " at (" + enemy.getX() + ", " + enemy.getY() + ")" +
-                             " speed: " + enemy.getSpeed() +
-                             " patrol: " + GameConfig.DEFAULT_PATROL_DISTANCE + " blocks");
-        }
-        
-        if (enemies.isEmpty()) {
-            System.out.println("WARNING: No enemies loaded for level " + currentLevel);
-        }
-    }
-    
-    // check if player collected all fossils
-    public boolean isLevelComplete() {
-        return fossilsCollected >= GameConfig.FOSSILS_PER_LEVEL;
-    }
-    
-    // called when player completes level
-    public void onLevelComplete() {
-        audioManager.playPlayerEscape();
-        audioManager.stopMusic();
-        System.out.println("Level " + currentLevel + " completed! Playing escape sound.");
-    }
-    
-    // called when player dies
-    public void onGameOver() {
-        audioManager.playGameOver();
-        audioManager.stopMusic();
-        System.out.println("Game over! Playing game over sound.");
-    }
-    
-    // pause level music
-    public void pauseLevelMusic() {
-        audioManager.pauseMusic();
-        System.out.println("Level music paused");
-    }
-    
-    // resume level music
-    public void resumeLevelMusic() {
-        audioManager.resumeMusic();
-        System.out.println("Level music resumed");
-    }
-    
-    // reset collectibles without reloading level
-    public void resetLevelState() {
-        fossilsCollected = 0;
-        
-        for (Fossil fossil : fossils) {
-            fossil.reset();
-        }
-        
-        for (PowerUp powerUp : powerUps) {
-            powerUp.reset();
-        }
-    }
-    
-    // print detailed level information
-    public void printLevelInfo() {
-        System.out.println("=== LEVEL " + currentLevel + " INFO ===");
-        System.out.println("Map Width: " + mapWidth);
-        System.out.println("Gate X: " + gateX);
-        System.out.println("Spawn: (" + spawnX + ", " + spawnY + ")");
-        System.out.println("Platforms: " + platforms.size());
-        System.out.println("Fossils: " + fossils.size() + " (Collected: " + fossilsCollected + ")");
-        System.out.println("Enemies: " + enemies.size());
-        System.out.println("Enemy Patrol Distance: " + GameConfig.DEFAULT_PATROL_DISTANCE + " blocks");
-        
-        if (!platforms.isEmpty()) {
-            Platform first = platforms.get(0);
-            Platform last = platforms.get(platforms.size() - 1);
-            System.out.println("Platform Range: " + first.getX() + " to " + last.getX());
-        }
-    }
-    
-    // debug platform positions
-    public void debugPlatformPositions() {
-        System.out.println("=== PLATFORM POSITIONS ===");
-        for (int i = 0; i < Math.min(platforms.size(), 10); i++) {
-            Platform p = platforms.get(i);
-            System.out.println("Platform " + i + ": (" + p.getX() + ", " + p.getY() + ")");
-        }
-        
-        if (platforms.size() > 0) {
-            Platform last = platforms.get(platforms.size() - 1);
-            System.out.println("Last platform at: " + last.getX());
-        }
-    }
-    
-    // Getters
-    public Image getMapImage() { 
-        return mapImage; 
-    }
-    
-    public ArrayList<Platform> getPlatforms() { 
-        return platforms; 
-    }
-    
-    public ArrayList<Fossil> getFossils() { 
-        return fossils; 
-    }
-    
-    public ArrayList<PowerUp> getPowerUps() { 
-        return powerUps; 
-    }
-    
-    public ArrayList<Enemy> getEnemies() { 
-        return enemies; 
-    }
-    
-    public int getCurrentLevel() { 
-        return currentLevel; 
-    }
-    
-    public double getMapWidth() { 
-        return mapWidth; 
-    }
-    
-    public double getGateX() { 
-        return gateX; 
-    }
-    
-    public double getSpawnX() { 
-        return spawnX; 
-    }
-    
-    public double getSpawnY() { 
-        return spawnY; 
-    }
-    
-    public int getCollected() { 
-        return fossilsCollected; 
-    }
-    
-    public void collectFossil() { 
-        fossilsCollected++; 
-    }
+package game.levels;
+
+import game.entities.*;
+import game.audio.AudioManager;
+import game.GameConfig;
+import game.util.ImageCache;
+import game.util.ImageStrip;
+import game.util.Log;
+import game.util.StreamedStrip;
+import javafx.scene.image.Image;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// handles level loading, data management, and transitions
+// the next level is prepared on a background thread while the current one is played (see prefetchLevel),
+// so walking through the gate only swaps in objects that are already built
+// every level built is kept as a template, loading it again (a restart, or dying and retrying) puts its
+// enemies and collectibles back to their starting state in place - no file, image or grid work
+// the world is split into GameConfig.CHUNK_WIDTH chunks and only the ones around the camera are live
+// (see streamAround): their terrain and map images are loaded ahead in the background, their enemies are
+// in the enemy manager. Far away chunks hold no images and their enemies are asleep, but the level's tables
+// stay resident for the whole level - the TileMap, collision spans, grids, fossils, power-ups and every Enemy
+// object - so memory still grows with the level's length, by its compact data rather than its pictures
+public class LevelManager {
+    private static final int SPAN_CELL_SIZE = GameConfig.BLOCK_SIZE * 4; // spans are long, fewer bigger cells
+    private static final int COLLECTIBLE_CELL_SIZE = GameConfig.BLOCK_SIZE * 4; // collectibles are few and far apart
+    
+    private int currentLevel; // current level number (1-4)
+    
+    private ImageStrip mapStrip; // background image for level, cut into screen-wide chunks
+    private double mapWidth; // total width of level in pixels
+    
+    private double spawnX; // player spawn X position
+    private double spawnY; // player spawn Y position
+    
+    private double gateX; // exit gate X position
+    
+    // these are loaded from level files
+    private ArrayList<Fossil> fossils;
+    private ArrayList<PowerUp> powerUps;
+    private ArrayList<Enemy> enemies;
+    
+    private TileMap tileMap; // static terrain, the one copy of the blocks
+    private FloorMap floorMap; // per-column ground and pit lookup over the terrain
+    private ImageStrip terrainStrip; // terrain pre-rendered into screen-wide chunks, null = tileDrawer draws it
+    private TileDrawer tileDrawer; // block by block terrain drawing, only when the terrain couldn't be baked
+    private ArrayList<CollisionSpan> collisionSpans; // merged terrain rectangles the entities collide with
+    private SpatialGrid<CollisionSpan> collisionGrid; // collision lookup over the spans
+    private SpatialGrid<Fossil> fossilGrid; // render culling lookups for collectibles
+    private SpatialGrid<PowerUp> powerUpGrid;
+    
+    private int fossilsCollected; // how many fossils collected in current level
+    
+    private AudioManager audioManager; // for playing level music
+    
+    private final LevelTemplate[] templates; // by level number, null until that level is first built
+    private LevelTemplate current; // the level being played, null before the first load
+    
+    // chunks around the camera, see streamAround
+    private final ExecutorService streamer; // bakes and decodes strip chunks ahead of the camera
+    private final BitSet liveEnemies; // indices into enemies of the ones handed to the enemy manager
+    private int streamFirst; // chunk range streamed in, streamLast < streamFirst when nothing is
+    private int streamLast;
+    
+    // next level being built in the background, null when nothing is prefetched
+    private final ExecutorService prefetcher;
+    private CompletableFuture<LevelTemplate> prefetch;
+    private int prefetchLevel;
+    
+    // initializes with default values
+    public LevelManager() {
+        this.currentLevel = 1;
+        this.mapWidth = GameConfig.DEFAULT_WORLD_WIDTH;
+        this.spawnX = 80;
+        this.spawnY = 432;
+        this.gateX = GameConfig.DEFAULT_WORLD_WIDTH - GameConfig.GATE_END_MARGIN;
+        
+        this.fossils = new ArrayList<>();
+        this.powerUps = new ArrayList<>();
+        this.enemies = new ArrayList<>();
+        this.tileMap = new TileMap(GameConfig.DEFAULT_WORLD_WIDTH, GameConfig.WINDOW_HEIGHT, GameConfig.BLOCK_SIZE);
+        this.floorMap = new FloorMap(tileMap);
+        this.collisionSpans = new ArrayList<>();
+        this.collisionGrid = new SpatialGrid<>(collisionSpans, SPAN_CELL_SIZE);
+        this.fossilGrid = new SpatialGrid<>(fossils, COLLECTIBLE_CELL_SIZE);
+        this.powerUpGrid = new SpatialGrid<>(powerUps, COLLECTIBLE_CELL_SIZE);
+        
+        this.fossilsCollected = 0;
+        this.audioManager = AudioManager.getInstance();
+        this.templates = new LevelTemplate[GameConfig.TOTAL_LEVELS + 1];
+        this.liveEnemies = new BitSet();
+        this.streamLast = -1;
+        this.prefetcher = daemonExecutor("level-prefetch");
+        this.streamer = daemonExecutor("level-stream"); // its own thread, a level prefetch must not hold up the camera
+    }
+    
+    private static ExecutorService daemonExecutor(String name) {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true); // never keeps the game from exiting
+            return t;
+        });
+    }
+    
+    // everything loadLevel needs that can be built off the FX thread: the parsed level, decoded images,
+    // and the lookup structures over it - none of it is touched by the game until it is swapped in
+    // terrain, images and grids never change during play, the only mutable parts are the enemies and the
+    // collected flags, and reset() puts those back the way the level was loaded
+    private static final class LevelTemplate {
+        final int level;
+        final LevelLoader.LevelData data;
+        final ImageStrip mapStrip;
+        final ImageStrip terrainStrip;
+        final TileDrawer tileDrawer; // null when the terrain is baked
+        final FloorMap floorMap;
+        double spawnX = Double.NaN; // safe spawn above the leftmost block near the start, NaN with no blocks
+        double spawnY;
+        final SpatialGrid<CollisionSpan> collisionGrid;
+        final SpatialGrid<Fossil> fossilGrid;
+        final SpatialGrid<PowerUp> powerUpGrid;
+        
+        // enemies by the chunk they spawn in: indices into data.enemies,
+        // chunk c's are enemyChunkItems[enemyChunkStart[c]] .. enemyChunkItems[enemyChunkStart[c + 1] - 1]
+        final int chunkCount;
+        final int[] enemyChunkStart;
+        final int[] enemyChunkItems;
+        
+        LevelTemplate(int level, Executor streamer) {
+            this.level = level;
+            this.data = LevelLoader.loadLevelFromFile(level);
+            this.mapStrip = loadMapImage(level, data.tileMap.getWidth(), streamer);
+            this.floorMap = new FloorMap(data.tileMap);
+            this.collisionGrid = new SpatialGrid<>(data.collisionSpans, SPAN_CELL_SIZE);
+            this.fossilGrid = new SpatialGrid<>(data.fossils, COLLECTIBLE_CELL_SIZE);
+            this.powerUpGrid = new SpatialGrid<>(data.powerUps, COLLECTIBLE_CELL_SIZE);
+            this.terrainStrip = TerrainBaker.bake(data.tileMap, GameConfig.CHUNK_WIDTH, streamer);
+            this.tileDrawer = terrainStrip == null ? new TileDrawer(data.tileMap) : null;
+            findSpawn();
+            loadStart(); // the first screen is ready when the level is swapped in
+            for (Enemy e : data.enemies) {
+                e.saveSpawnState();
+            }
+            
+            // count pass, prefix sums, fill - same layout as SpatialGrid's cells
+            this.chunkCount = (int) Math.ceil(data.tileMap.getWidth() / GameConfig.CHUNK_WIDTH);
+            this.enemyChunkStart = new int[chunkCount + 1];
+            this.enemyChunkItems = new int[data.enemies.size()];
+            for (Enemy e : data.enemies) {
+                enemyChunkStart[chunkOf(e.getX()) + 1]++;
+            }
+            for (int c = 0; c < chunkCount; c++) {
+                enemyChunkStart[c + 1] += enemyChunkStart[c];
+            }
+            int[] cursor = Arrays.copyOf(enemyChunkStart, chunkCount);
+            for (int i = 0; i < data.enemies.size(); i++) {
+                enemyChunkItems[cursor[chunkOf(data.enemies.get(i).getX())]++] = i;
+            }
+        }
+        
+        // the leftmost block starting within 200px of the world's left edge, the first in map order
+        // (top to bottom, left to right, then the overflow) on a tie - failing that the first block at all
+        private void findSpawn() {
+            TileMap map = data.tileMap;
+            int nearCols = Math.min(map.getCols(), 200 / map.getTileSize() + 1); // a block is never left of its cell
+            double bestX = Double.NaN;
+            double bestY = 0;
+            for (int row = 0; row < map.getRows(); row++) {
+                for (int col = 0; col < nearCols; col++) {
+                    if (map.getTile(col, row) == TileMap.EMPTY) continue;
+                    double x = map.getTileX(col, row);
+                    if (x < 200 && (Double.isNaN(bestX) || x < bestX)) {
+                        bestX = x;
+                        bestY = map.getTileY(col, row);
+                    }
+                }
+            }
+            for (int i = 0; i < map.getOverflowCount(); i++) {
+                double x = map.getOverflowX(i);
+                if (x < 200 && (Double.isNaN(bestX) || x < bestX)) {
+                    bestX = x;
+                    bestY = map.getOverflowY(i);
+                }
+            }
+            
+            if (!Double.isNaN(bestX)) {
+                spawnX = bestX + 50;
+                spawnY = bestY - 70; // spawn above the block
+                Log.info("Adjusted spawn to platform: ({}, {})", spawnX, spawnY);
+                return;
+            }
+            
+            // no block near the start - use the first one
+            for (int row = 0; row < map.getRows(); row++) {
+                for (int col = 0; col < map.getCols(); col++) {
+                    if (map.getTile(col, row) == TileMap.EMPTY) continue;
+                    spawnX = map.getTileX(col, row) + 50;
+                    spawnY = map.getTileY(col, row) - 70;
+                    Log.info("Using fallback spawn: ({}, {})", spawnX, spawnY);
+                    return;
+                }
+            }
+            if (map.getOverflowCount() > 0) {
+                spawnX = map.getOverflowX(0) + 50;
+                spawnY = map.getOverflowY(0) - 70;
+                Log.info("Using fallback spawn: ({}, {})", spawnX, spawnY);
+            }
+        }
+        
+        private int chunkOf(double x) {
+            return Math.max(0, Math.min(chunkCount - 1, (int) Math.floor(x / GameConfig.CHUNK_WIDTH)));
+        }
+        
+        // load the strip chunks of the first screen on this thread, where the camera is when a level starts
+        void loadStart() {
+            if (mapStrip != null) mapStrip.load(0, GameConfig.WINDOW_WIDTH - 1);
+            if (terrainStrip != null) terrainStrip.load(0, GameConfig.WINDOW_WIDTH - 1);
+        }
+        
+        // drop the loaded strip chunks while another level is played, they stream back in when it is loaded again
+        void releaseChunks() {
+            if (mapStrip != null) mapStrip.release();
+            if (terrainStrip != null) terrainStrip.release();
+        }
+        
+        // back to the state it was loaded in, the objects are reused so nothing is allocated
+        void reset() {
+            for (Fossil f : data.fossils) {
+                f.reset();
+            }
+            for (PowerUp p : data.powerUps) {
+                p.reset();
+            }
+            for (Enemy e : data.enemies) {
+                e.respawn();
+            }
+        }
+        
+        // give back the images of a level that is no longer kept
+        void discard() {
+            releaseChunks();
+            if (tileDrawer != null) tileDrawer.dispose();
+            releaseImages(data.fossils, data.powerUps);
+        }
+    }
+    
+    // start building a level in the background, ignored if it is already built or on its way
+    public void prefetchLevel(int level) {
+        if (level > GameConfig.TOTAL_LEVELS || templates[level] != null) return;
+        if (prefetch != null && prefetchLevel == level) return;
+        
+        cancelPrefetch();
+        prefetchLevel = level;
+        prefetch = CompletableFuture.supplyAsync(() -> new LevelTemplate(level, streamer), prefetcher);
+        Log.info("Prefetching level {} in the background", level);
+    }
+    
+    // a level is being (or has been) built in the background and not picked up yet
+    public boolean isPrefetching() {
+        return prefetch != null;
+    }
+    
+    // drop a prefetched level, its images are released once the background load is done with them
+    public void cancelPrefetch() {
+        if (prefetch == null) return;
+        prefetch.thenAccept(LevelTemplate::discard);
+        prefetch = null;
+    }
+    
+    // the prefetched level if it is this one and ready right now, never waits
+    private LevelTemplate takePrefetched(int level) {
+        if (prefetch == null) return null;
+        
+        if (prefetchLevel != level) {
+            cancelPrefetch();
+            return null;
+        }
+        if (!prefetch.isDone()) {
+            Log.info("Prefetch of level {} not finished, loading it now", level);
+            cancelPrefetch();
+            return null;
+        }
+        
+        LevelTemplate ready = prefetch.exceptionally(e -> {
+            Log.error("Prefetch of level {} failed", level, e);
+            return null;
+        }).join();
+        prefetch = null;
+        return ready;
+    }
+    
+    // switch to a level - a level played before is reset from its template, otherwise the prefetched
+    // copy is swapped in when it is ready, and failing both it is built here
+    public void loadLevel(int level) {
+        long start = System.nanoTime();
+        
+        LevelTemplate template = templates[level];
+        boolean played = template != null;
+        String source = "reset";
+        if (!played) {
+            template = takePrefetched(level);
+            source = "prefetched";
+            if (template == null) {
+                template = new LevelTemplate(level, streamer);
+                source = "loaded now";
+            }
+            templates[level] = template;
+        } else {
+            template.reset();
+            template.loadStart();
+        }
+        if (current != null && current != template) {
+            current.releaseChunks();
+        }
+        current = template;
+        liveEnemies.clear(); // nothing is streamed in until startStreaming
+        streamFirst = 0;
+        streamLast = -1;
+        
+        currentLevel = level;
+        fossilsCollected = 0;
+        
+        LevelLoader.LevelData data = template.data;
+        mapStrip = template.mapStrip;
+        tileMap = data.tileMap;
+        collisionSpans = data.collisionSpans;
+        fossils = data.fossils;
+        powerUps = data.powerUps;
+        enemies = data.enemies;
+        gateX = data.gateX;
+        
+        floorMap = template.floorMap;
+        collisionGrid = template.collisionGrid;
+        fossilGrid = template.fossilGrid;
+        powerUpGrid = template.powerUpGrid;
+        terrainStrip = template.terrainStrip;
+        tileDrawer = template.tileDrawer;
+        
+        mapWidth = tileMap.getWidth();
+        
+        if (!Double.isNaN(template.spawnX)) { // safe spawn found when the level was built
+            spawnX = template.spawnX;
+            spawnY = template.spawnY;
+        }
+        playLevelMusic(level); // start appropriate music
+        
+        if (!played) { // the details don't change between resets
+            Log.info("==== LOADING LEVEL {} ====", level);
+            debugEnemyInfo(); // output debug info
+            Log.info("Collision spans: {} ({} grid cells)", collisionSpans.size(), collisionGrid.getCellCount());
+            Log.info("Terrain: {} tiles, {} textures, {} bytes", tileMap.getTileCount(), tileMap.getTextureCount(),
+                     tileMap.getMemoryBytes());
+            Log.info("Pits: {}", floorMap.getPitCount());
+            Log.info("Fossils: {}", fossils.size());
+            Log.info("PowerUps: {}", powerUps.size());
+            Log.info("Enemies: {}", enemies.size());
+            Log.info("Map Width: {}", mapWidth);
+            Log.info("Gate X: {}", gateX);
+            Log.info("Spawn: ({}, {})", spawnX, spawnY);
+            Log.info(ImageCache.getStats());
+        }
+        Log.info("Level {} switched in {} ms ({})", level, (System.nanoTime() - start) / 1_000_000.0, source);
+    }
+    
+    // hand the enemy manager the level's enemies around its start, where the camera is after a load
+    // (call once the level is loaded and the camera reset, streamAround keeps it up to date from then on)
+    public void startStreaming(EnemyManager enemyManager) {
+        enemyManager.clearEnemies();
+        liveEnemies.clear();
+        streamFirst = 0;
+        streamLast = -1;
+        streamAround(0, enemyManager);
+    }
+    
+    // keep the chunks around the camera live - CHUNKS_BEHIND behind the screen, CHUNKS_AHEAD ahead of it
+    // the strips load the images for that range in the background and drop the rest. Enemies whose chunk
+    // comes into range join the enemy manager, ones that leave the range are taken out and put back at their
+    // spawn point, killed ones stay dead. The range covers the enemy activation band, so everything that could
+    // be awake is in it. Runs every step, past the strip polls it does nothing until the camera changes chunk
+    public void streamAround(double cameraX, EnemyManager enemyManager) {
+        double from = cameraX - GameConfig.CHUNKS_BEHIND * GameConfig.CHUNK_WIDTH;
+        double to = cameraX + GameConfig.WINDOW_WIDTH + GameConfig.CHUNKS_AHEAD * GameConfig.CHUNK_WIDTH;
+        if (mapStrip != null) mapStrip.stream(from, to);
+        if (terrainStrip != null) terrainStrip.stream(from, to);
+        
+        int first = Math.max(0, (int) Math.floor(from / GameConfig.CHUNK_WIDTH));
+        int last = Math.min(current.chunkCount - 1, (int) Math.floor(to / GameConfig.CHUNK_WIDTH));
+        if (first == streamFirst && last == streamLast) return;
+        streamFirst = first;
+        streamLast = last;
+        
+        double left = first * (double) GameConfig.CHUNK_WIDTH;
+        double right = (last + 1) * (double) GameConfig.CHUNK_WIDTH;
+        for (int i = liveEnemies.nextSetBit(0); i >= 0; i = liveEnemies.nextSetBit(i + 1)) {
+            Enemy e = enemies.get(i);
+            if (e.getX() + e.getWidth() >= left && e.getX() <= right) continue;
+            enemyManager.removeEnemy(e);
+            liveEnemies.clear(i);
+            if (!e.isDead()) e.respawn();
+        }
+        
+        // every chunk in range, not just new ones - an enemy that wandered out may have been put back in one
+        for (int c = first; c <= last; c++) {
+            for (int k = current.enemyChunkStart[c]; k < current.enemyChunkStart[c + 1]; k++) {
+                int i = current.enemyChunkItems[k];
+                Enemy e = enemies.get(i);
+                if (liveEnemies.get(i) || e.isDead()) continue;
+                enemyManager.addEnemy(e);
+                liveEnemies.set(i);
+            }
+        }
+    }
+    
+    // give back every built level's images and stop the background threads, the manager can't load levels after this
+    public void dispose() {
+        cancelPrefetch();
+        prefetcher.shutdown();
+        streamer.shutdown();
+        for (int i = 0; i < templates.length; i++) {
+            if (templates[i] != null) {
+                templates[i].discard();
+                templates[i] = null;
+            }
+        }
+    }
+    
+    // release cached images held by a level that is no longer kept
+    private static void releaseImages(ArrayList<Fossil> oldFossils, ArrayList<PowerUp> oldPowerUps) {
+        for (Fossil f : oldFossils) {
+            f.dispose();
+        }
+        for (PowerUp p : oldPowerUps) {
+            p.dispose();
+        }
+        oldFossils.clear();
+        oldPowerUps.clear();
+    }
+    
+    // play appropriate music for level
+    private void playLevelMusic(int level) {
+        if (level == 4) {
+            audioManager.playLevel4Music(); // level 4 has eerie music
+            Log.info("Playing Level 4 (scary) music");
+        } else {
+            audioManager.playLevel1_3Music(); // levels 1-3 share music
+            Log.info("Playing Level 1-3 music");
+        }
+    }
+    
+    // load background map image, null if there is none (or nothing will draw it)
+    // a level too long for one image gives it in CHUNK_WIDTH pieces instead, maps/levelN/0.png, 1.png ...,
+    // and those are streamed in like the terrain
+    private static ImageStrip loadMapImage(int level, double worldWidth, Executor streamer) {
+        String mapPath = "/assets/maps/level" + level + ".png";
+        
+        if (ImageCache.isHeadless()) { // nothing will draw it
+            return null;
+        }
+        
+        String pieces = "/assets/maps/level" + level + "/";
+        if (LevelManager.class.getResource(mapPath) == null && LevelManager.class.getResource(pieces + "0.png") != null) {
+            int count = (int) Math.ceil(worldWidth / GameConfig.CHUNK_WIDTH);
+            Log.info("Streaming map images from {} ({} chunks)", pieces, count);
+            return new StreamedStrip(count, GameConfig.CHUNK_WIDTH, 0, worldWidth, GameConfig.WINDOW_HEIGHT,
+                                     chunk -> loadMapPiece(pieces + chunk + ".png"), streamer);
+        }
+        
+        try {
+            InputStream stream = LevelManager.class.getResourceAsStream(mapPath);
+            
+            if (stream == null) {
+                throw new Exception("Map image not found: " + mapPath);
+            }
+            
+            Image img = new Image(stream);
+            
+            if (!img.isError()) {
+                // slice once here so each frame only draws the chunks under the camera,
+                // the full-size decode is dropped as soon as this returns
+                ImageStrip strip = ImageStrip.slice(img, GameConfig.WINDOW_WIDTH);
+                if (strip == null) {
+                    throw new Exception("Map image pixels not readable.");
+                }
+                Log.info("Loaded map image: {} ({} chunks)", mapPath, strip.getChunkCount());
+                return strip;
+            } else {
+                throw new Exception("Map image load error.");
+            }
+        } catch (Exception e) {
+            Log.warn("Map load error: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    // one piece of a streamed map, null where the level has none
+    private static Image loadMapPiece(String path) {
+        try (InputStream stream = LevelManager.class.getResourceAsStream(path)) {
+            if (stream == null) return null;
+            Image img = new Image(stream);
+            return img.isError() ? null : img;
+        } catch (IOException e) {
+            Log.warn("Map piece load error: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    // debug output for enemy data
+    private void debugEnemyInfo() {
+        if (!Log.isDebugEnabled()) return;
+        Log.debug("=== ENEMY DEBUG INFO ===");
+        Log.debug("Total enemies loaded: {}", enemies.size());
+        
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            Log.debug("Enemy {}: {} at ({}, {}) speed: {} patrol: {} blocks", i, enemy.getType(),
+                      enemy.getX(), enemy.getY(), enemy.getSpeed(), GameConfig.DEFAULT_PATROL_DISTANCE);
+        }
+        
+        if (enemies.isEmpty()) {
+            Log.warn("No enemies loaded for level {}", currentLevel);
+        }
+    }
+    
+    // check if player collected all fossils
+    public boolean isLevelComplete() {
+        return fossilsCollected >= GameConfig.FOSSILS_PER_LEVEL;
+    }
+    
+    // called when player completes level
+    public void onLevelComplete() {
+        audioManager.playPlayerEscape();
+        audioManager.stopMusic();
+        Log.info("Level {} completed! Playing escape sound.", currentLevel);
+    }
+    
+    // called when player dies
+    public void onGameOver() {
+        audioManager.playGameOver();
+        audioManager.stopMusic();
+        Log.info("Game over! Playing game over sound.");
+    }
+    
+    // pause level music
+    public void pauseLevelMusic() {
+        audioManager.pauseMusic();
+        Log.info("Level music paused");
+    }
+    
+    // resume level music
+    public void resumeLevelMusic() {
+        audioManager.resumeMusic();
+        Log.info("Level music resumed");
+    }
+    
+    // reset collectibles without reloading level
+    public void resetLevelState() {
+        fossilsCollected = 0;
+        
+        for (Fossil fossil : fossils) {
+            fossil.reset();
+        }
+        
+        for (PowerUp powerUp : powerUps) {
+            powerUp.reset();
+        }
+    }
+    
+    // print detailed level information
+    public void printLevelInfo() {
+        Log.info("=== LEVEL {} INFO ===", currentLevel);
+        Log.info("Map Width: {}", mapWidth);
+        Log.info("Gate X: {}", gateX);
+        Log.info("Spawn: ({}, {})", spawnX, spawnY);
+        Log.info("Terrain: {} tiles, {} textures, {} bytes", tileMap.getTileCount(), tileMap.getTextureCount(),
+                 tileMap.getMemoryBytes());
+        Log.info("Fossils: {} (Collected: {})", fossils.size(), fossilsCollected);
+        Log.info("Enemies: {}", enemies.size());
+        Log.info("Enemy Patrol Distance: {} blocks", GameConfig.DEFAULT_PATROL_DISTANCE);
+    }
+    
+    // debug platform positions, the first ten blocks in map order
+    public void debugPlatformPositions() {
+        Log.info("=== PLATFORM POSITIONS ===");
+        int shown = 0;
+        for (int row = 0; row < tileMap.getRows() && shown < 10; row++) {
+            for (int col = 0; col < tileMap.getCols() && shown < 10; col++) {
+                if (tileMap.getTile(col, row) == TileMap.EMPTY) continue;
+                Log.info("Platform {}: ({}, {})", shown++, tileMap.getTileX(col, row), tileMap.getTileY(col, row));
+            }
+        }
+    }
+    
+    // Getters
+    public ImageStrip getMapStrip() { 
+        return mapStrip; 
+    }
+    
+    public TileMap getTileMap() { 
+        return tileMap; 
+    }
+    
+    public FloorMap getFloorMap() { 
+        return floorMap; 
+    }
+    
+    public ImageStrip getTerrainStrip() { 
+        return terrainStrip; 
+    }
+    
+    // null when the terrain is drawn from the baked strip
+    public TileDrawer getTileDrawer() { 
+        return tileDrawer; 
+    }
+    
+    public SpatialGrid<CollisionSpan> getCollisionGrid() { 
+        return collisionGrid; 
+    }
+    
+    public SpatialGrid<Fossil> getFossilGrid() { 
+        return fossilGrid; 
+    }
+    
+    public SpatialGrid<PowerUp> getPowerUpGrid() { 
+        return powerUpGrid; 
+    }
+    
+    public ArrayList<Fossil> getFossils() { 
+        return fossils; 
+    }
+    
+    public ArrayList<PowerUp> getPowerUps() { 
+        return powerUps; 
+    }
+    
+    public ArrayList<Enemy> getEnemies() { 
+        return enemies; 
+    }
+    
+    public int getCurrentLevel() { 
+        return currentLevel; 
+    }
+    
+    public double getMapWidth() { 
+        return mapWidth; 
+    }
+    
+    public double getGateX() { 
+        return gateX; 
+    }
+    
+    public double getSpawnX() { 
+        return spawnX; 
+    }
+    
+    public double getSpawnY() { 
+        return spawnY; 
+    }
+    
+    public int getCollected() { 
+        return fossilsCollected; 
+    }
+    
+    // past GameConfig.PREFETCH_AFTER_FOSSILS the player is heading for the gate, start on the next level
+    public void collectFossil() { 
+        fossilsCollected++; 
+        if (fossilsCollected == GameConfig.PREFETCH_AFTER_FOSSILS) {
+            prefetchLevel(currentLevel + 1);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,220 @@
+package game.levels;
+
+import game.util.Log;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// streaming tokenizer for level files, works on the raw bytes in place
+// the whole file sits in one ByteBuffer and is walked a line at a time: keywords are matched and
+// numbers parsed straight from the bytes, so scanning allocates nothing per line. A line that
+// can't be read is reported with its line number and skipped instead of being dropped silently
+// usage: kw = nextLine(), read the line's fields with nextNumber()/nextWord(), then accept()
+public class LevelScanner {
+    public static final int EOF = -1;
+    public static final int UNKNOWN = 0;
+    public static final int BLOCK = 1;
+    public static final int FOSSIL = 2;
+    public static final int POWERUP = 3;
+    public static final int ENEMY = 4;
+    public static final int GATE = 5;
+    public static final int WIDTH = 6;
+    
+    private static final byte[][] KEYWORDS = { null, ascii("BLOCK"), ascii("FOSSIL"), ascii("POWERUP"),
+                                               ascii("ENEMY"), ascii("GATE"), ascii("WIDTH") }; // by code
+    private static final int MAX_DIGITS = 15; // more than this and the mantissa could stop being exact
+    private static final double[] POW10 = { 1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+                                            1e11, 1e12, 1e13, 1e14, 1e15 };
+    
+    private final byte[] bytes; // the buffer's backing array (or one copy of a direct buffer's contents)
+    private final String source; // file name for warnings
+    private final int limit;
+    
+    private int pos; // next byte to read
+    private int lineStart;
+    private int lineEnd; // end of the current line, before any \r\n
+    private int lineNumber; // 1-based
+    private int tokenStart; // last token read, tokenStart == tokenEnd when there was none
+    private int tokenEnd;
+    private boolean malformed; // a field on the current line was missing or unreadable
+    private int warnings;
+    
+    public LevelScanner(ByteBuffer buf, String source) {
+        this.source = source;
+        if (buf.hasArray()) { // read the array directly, get(i) per byte costs a bounds check each
+            this.bytes = buf.array();
+            this.pos = buf.arrayOffset() + buf.position();
+            this.limit = buf.arrayOffset() + buf.limit();
+        } else {
+            this.bytes = new byte[buf.remaining()];
+            buf.duplicate().get(bytes);
+            this.pos = 0;
+            this.limit = bytes.length;
+        }
+    }
+    
+    // move to the next line with something on it (blank lines and # comments are skipped)
+    // returns the keyword code, UNKNOWN for anything else, EOF at the end of the input
+    public int nextLine() {
+        while (pos < limit) {
+            lineStart = pos;
+            int end = pos;
+            while (end < limit && bytes[end] != '\n') end++;
+            lineEnd = end;
+            pos = end < limit ? end + 1 : end;
+            lineNumber++;
+            malformed = false;
+            
+            if (lineEnd > lineStart && bytes[lineEnd - 1] == '\r') lineEnd--;
+            
+            tokenEnd = lineStart;
+            if (!nextToken()) continue; // blank line
+            if (bytes[tokenStart] == '#') continue; // comment
+            
+            for (int k = 1; k < KEYWORDS.length; k++) {
+                if (tokenIs(KEYWORDS[k])) return k;
+            }
+            return UNKNOWN;
+        }
+        return EOF;
+    }
+    
+    // next field as a number (optional sign, digits, optional fraction)
+    // anything else marks the line malformed and returns 0
+    public double nextNumber() {
+        if (!nextToken()) {
+            malformed = true;
+            return 0;
+        }
+        
+        int i = tokenStart;
+        boolean negative = false;
+        byte c = bytes[i];
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (; i < tokenEnd; i++) {
+            c = bytes[i];
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_DIGITS) break;
+                mantissa = mantissa * 10 + (c - '0');
+                if (fraction) fractionDigits++;
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (i != tokenEnd || digits == 0 || digits > MAX_DIGITS) {
+            malformed = true;
+            return 0;
+        }
+        
+        // both operands are exact doubles, so the division rounds the same way parseDouble does
+        double value = mantissa / POW10[fractionDigits];
+        return negative ? -value : value;
+    }
+    
+    // next field as a word, false (and the line malformed) if the line has run out
+    // the word is then compared in place with tokenIs() or, if it really is needed, copied out with tokenText()
+    public boolean nextWord() {
+        if (nextToken()) return true;
+        malformed = true;
+        return false;
+    }
+    
+    // does the last word read equal this text, ignoring case (level files are plain ASCII)
+    public boolean tokenIs(String text) {
+        int length = tokenEnd - tokenStart;
+        if (length != text.length()) return false;
+        for (int i = 0; i < length; i++) {
+            if (lower(bytes[tokenStart + i]) != lower((byte) text.charAt(i))) return false;
+        }
+        return true;
+    }
+    
+    // exact, case-sensitive match for the keywords
+    private boolean tokenIs(byte[] text) {
+        if (tokenEnd - tokenStart != text.length) return false;
+        for (int i = 0; i < text.length; i++) {
+            if (bytes[tokenStart + i] != text[i]) return false;
+        }
+        return true;
+    }
+    
+    // index of the first choice the last word matches, ignoring case, -1 for none
+    public int tokenIndex(String[] choices) {
+        for (int i = 0; i < choices.length; i++) {
+            if (tokenIs(choices[i])) return i;
+        }
+        return -1;
+    }
+    
+    public String tokenText() {
+        return text(tokenStart, tokenEnd);
+    }
+    
+    // has a field on the current line failed to read, without reporting it the way accept() does
+    public boolean isMalformed() {
+        return malformed;
+    }
+    
+    // mark the current line malformed, for fields that parse but make no sense
+    public void reject() {
+        malformed = true;
+    }
+    
+    // done with the current line - true if every field read fine, otherwise it is reported and skipped
+    // extra fields after the ones read are ignored, as they always were
+    public boolean accept() {
+        if (!malformed) return true;
+        warn("malformed line");
+        return false;
+    }
+    
+    // report the current line, e.g. for a keyword the loader doesn't know
+    public void warn(String problem) {
+        warnings++;
+        Log.warn("{} line {}: {}", source, lineNumber, problem + ": " + text(lineStart, lineEnd).trim());
+    }
+    
+    public int getLineNumber() {
+        return lineNumber;
+    }
+    
+    public int getWarningCount() {
+        return warnings;
+    }
+    
+    // advance to the next space-separated token on the current line, false if there are none left
+    private boolean nextToken() {
+        int i = tokenEnd;
+        while (i < lineEnd && isSpace(bytes[i])) i++;
+        tokenStart = i;
+        while (i < lineEnd && !isSpace(bytes[i])) i++;
+        tokenEnd = i;
+        return tokenEnd > tokenStart;
+    }
+    
+    private static boolean isSpace(byte c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+    
+    private static int lower(byte c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+    
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+    
+    private String text(int from, int to) {
+        return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package game.levels;
+
+import game.core.Collidable;
+
+import java.util.Arrays;
+import java.util.List;
+
+// static uniform grid over level geometry, built once when a level loads
+// every cell lists the items touching it, so a collision query only looks at the few
+// cells under an entity instead of every block in the level
+// items must not move after the grid is built, and queries are not thread safe (shared scratch state)
+public class SpatialGrid<T extends Collidable> {
+    private final Object[] items; // in the order they were given, queries return them in this order
+    private final double[] minX; // item bounds, copied so queries don't call back into the items
+    private final double[] minY;
+    private final double[] maxX;
+    private final double[] maxY;
+    
+    private final double cellSize;
+    private final double originX; // top-left corner of cell (0, 0)
+    private final double originY;
+    private final int cols;
+    private final int rows;
+    
+    // items of cell c are cellItems[cellStart[c]] .. cellItems[cellStart[c + 1] - 1]
+    private final int[] cellStart;
+    private final int[] cellItems;
+    
+    private final int[] stamps; // last query that reported each item, dedupes items spanning several cells
+    private int queryStamp;
+    private int[] hits; // scratch for the indices found by one query
+    
+    public SpatialGrid(List<? extends T> list, double cellSize) {
+        int count = list.size();
+        this.items = list.toArray();
+        this.minX = new double[count];
+        this.minY = new double[count];
+        this.maxX = new double[count];
+        this.maxY = new double[count];
+        this.cellSize = cellSize;
+        this.stamps = new int[count];
+        this.hits = new int[64];
+        
+        double lowX = Double.MAX_VALUE, lowY = Double.MAX_VALUE;
+        double highX = -Double.MAX_VALUE, highY = -Double.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            T item = list.get(i);
+            minX[i] = item.getX();
+            minY[i] = item.getY();
+            maxX[i] = item.getX() + item.getWidth();
+            maxY[i] = item.getY() + item.getHeight();
+            lowX = Math.min(lowX, minX[i]);
+            lowY = Math.min(lowY, minY[i]);
+            highX = Math.max(highX, maxX[i]);
+            highY = Math.max(highY, maxY[i]);
+        }
+        
+        if (count == 0) {
+            lowX = lowY = highX = highY = 0;
+        }
+        this.originX = lowX;
+        this.originY = lowY;
+        this.cols = (int) Math.floor((highX - lowX) / cellSize) + 1;
+        this.rows = (int) Math.floor((highY - lowY) / cellSize) + 1;
+        
+        // count pass, then prefix sums give each cell its slice of cellItems
+        this.cellStart = new int[cols * rows + 1];
+        for (int i = 0; i < count; i++) {
+            for (int r = row(minY[i]); r <= row(maxY[i]); r++) {
+                for (int c = col(minX[i]); c <= col(maxX[i]); c++) {
+                    cellStart[r * cols + c + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < cols * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        
+        this.cellItems = new int[cellStart[cols * rows]];
+        int[] cursor = Arrays.copyOf(cellStart, cols * rows);
+        for (int i = 0; i < count; i++) {
+            for (int r = row(minY[i]); r <= row(maxY[i]); r++) {
+                for (int c = col(minX[i]); c <= col(maxX[i]); c++) {
+                    cellItems[cursor[r * cols + c]++] = i;
+                }
+            }
+        }
+    }
+    
+    // fill out with every item whose bounds touch the rectangle (edges included), in original list order
+    // this is a broad phase - callers still do their own exact tests on what comes back
+    @SuppressWarnings("unchecked")
+    public int query(double x, double y, double width, double height, List<T> out) {
+        out.clear();
+        if (items.length == 0) return 0;
+        
+        // cell range, skipping the query entirely if it misses the grid
+        int c0 = (int) Math.floor((x - originX) / cellSize);
+        int c1 = (int) Math.floor((x + width - originX) / cellSize);
+        int r0 = (int) Math.floor((y - originY) / cellSize);
+        int r1 = (int) Math.floor((y + height - originY) / cellSize);
+        if (c1 < 0 || r1 < 0 || c0 >= cols || r0 >= rows) return 0;
+        c0 = Math.max(c0, 0);
+        r0 = Math.max(r0, 0);
+        c1 = Math.min(c1, cols - 1);
+        r1 = Math.min(r1, rows - 1);
+        
+        if (++queryStamp == 0) { // wrapped, old stamps could collide
+            Arrays.fill(stamps, 0);
+            queryStamp = 1;
+        }
+        
+        double right = x + width;
+        double bottom = y + height;
+        int found = 0;
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int i = cellItems[k];
+                    if (stamps[i] == queryStamp) continue;
+                    stamps[i] = queryStamp;
+                    
+                    if (minX[i] <= right && maxX[i] >= x && minY[i] <= bottom && maxY[i] >= y) {
+                        if (found == hits.length) {
+                            hits = Arrays.copyOf(hits, found * 2);
+                        }
+                        hits[found++] = i;
+                    }
+                }
+            }
+        }
+        
+        // cells are visited in grid order, sort back to list order so results match a linear scan
+        if (found > 1) {
+            Arrays.sort(hits, 0, found);
+        }
+        for (int k = 0; k < found; k++) {
+            out.add((T) items[hits[k]]);
+        }
+        return found;
+    }
+    
+    public int size() {
+        return items.length;
+    }
+    
+    public int getCellCount() {
+        return cols * rows;
+    }
+    
+    public double getCellSize() {
+        return cellSize;
+    }
+    
+    private int col(double worldX) {
+        return (int) Math.floor((worldX - originX) / cellSize);
+    }
+    
+    private int row(double worldY) {
+        return (int) Math.floor((worldY - originY) / cellSize);
+    }
+}
\ No newline at end of file
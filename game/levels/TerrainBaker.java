@@ -0,0 +1,195 @@
+package game.levels;
+
+import game.util.ImageCache;
+import game.util.Log;
+import game.util.StreamedStrip;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.util.concurrent.Executor;
+
+// renders a level's static terrain into screen-wide chunk images
+// blocks never move after loading, so each frame can draw one to three chunks instead of
+// one drawImage per visible block. Pixels are composited in plain int[] buffers and
+// handed to each chunk with a single PixelWriter.setPixels call
+// chunks are baked as the camera nears them (see StreamedStrip) - the baker itself only keeps the
+// decoded textures, so a longer level doesn't cost more memory to draw
+public final class TerrainBaker {
+    private static final int FALLBACK_FILL = 0xFF7F7F7F; // same look as TileDrawer's missing-texture block
+    private static final int FALLBACK_EDGE = 0xFF000000;
+    
+    private final TileMap map;
+    private final int chunkWidth;
+    private final int originY; // world y of the chunks' top row, chunks don't store empty sky
+    private final int height;
+    private final int[][] texturePixels; // ARGB at tile size, by texture id
+    
+    private TerrainBaker(TileMap map, int chunkWidth, int originY, int height, int[][] texturePixels) {
+        this.map = map;
+        this.chunkWidth = chunkWidth;
+        this.originY = originY;
+        this.height = height;
+        this.texturePixels = texturePixels;
+    }
+    
+    // strip that bakes its chunks on the executor as they are streamed in, null when there is
+    // nothing to bake or a texture can't be read - callers then fall back to a TileDrawer
+    public static StreamedStrip bake(TileMap map, int chunkWidth, Executor executor) {
+        if (ImageCache.isHeadless() || map.getTileCount() == 0) return null;
+        
+        int tileSize = map.getTileSize();
+        
+        // vertical extent of the terrain, so chunks don't store empty sky
+        double top = Double.MAX_VALUE;
+        double bottom = -Double.MAX_VALUE;
+        double right = 0;
+        for (int row = 0; row < map.getRows(); row++) {
+            for (int col = 0; col < map.getCols(); col++) {
+                if (map.getTile(col, row) == TileMap.EMPTY) continue;
+                top = Math.min(top, map.getTileY(col, row));
+                bottom = Math.max(bottom, map.getTileY(col, row) + tileSize);
+                right = Math.max(right, map.getTileX(col, row) + tileSize);
+            }
+        }
+        for (int i = 0; i < map.getOverflowCount(); i++) {
+            top = Math.min(top, map.getOverflowY(i));
+            bottom = Math.max(bottom, map.getOverflowY(i) + tileSize);
+            right = Math.max(right, map.getOverflowX(i) + tileSize);
+        }
+        int originY = (int) Math.floor(top);
+        int height = (int) Math.ceil(bottom) - originY;
+        int chunkCount = (int) Math.ceil(right / chunkWidth);
+        
+        // decode each texture to ARGB once
+        int[][] texturePixels = new int[map.getTextureCount() + 1][];
+        for (int id = 1; id <= map.getTextureCount(); id++) {
+            texturePixels[id] = readTexture(map.getTexturePath(id), tileSize);
+            if (texturePixels[id] == null) return null;
+        }
+        
+        TerrainBaker baker = new TerrainBaker(map, chunkWidth, originY, height, texturePixels);
+        Log.info("Terrain: {} chunks, {}px tall, {} KB each when loaded", chunkCount, height,
+                 chunkWidth * height * 4 / 1024);
+        return new StreamedStrip(chunkCount, chunkWidth, originY, chunkCount * (double) chunkWidth, height,
+                                 baker::bakeChunk, executor);
+    }
+    
+    // one chunk as an image, null when no block reaches into it
+    // only reads the map and textures, so chunks can be baked on any thread
+    private Image bakeChunk(int chunk) {
+        int[] pixels = compose(chunk);
+        if (pixels == null) return null;
+        
+        WritableImage image = new WritableImage(chunkWidth, height);
+        image.getPixelWriter().setPixels(0, 0, chunkWidth, height, PixelFormat.getIntArgbInstance(), pixels, 0, chunkWidth);
+        return image;
+    }
+    
+    // composite every block touching the chunk into its buffer, in the order TileDrawer draws them
+    int[] compose(int chunk) {
+        int chunkX = chunk * chunkWidth;
+        int tileSize = map.getTileSize();
+        // a block can sit up to a tile right of its column, so the column left of the chunk may reach in
+        int firstCol = Math.max(0, chunkX / tileSize - 1);
+        int lastCol = Math.min(map.getCols() - 1, (chunkX + chunkWidth - 1) / tileSize);
+        
+        int[] pixels = null;
+        for (int row = 0; row < map.getRows(); row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int id = map.getTile(col, row);
+                if (id == TileMap.EMPTY) continue;
+                pixels = blit(pixels, texturePixels[id], tileSize,
+                              (int) Math.round(map.getTileX(col, row)) - chunkX,
+                              (int) Math.round(map.getTileY(col, row)) - originY);
+            }
+        }
+        for (int i = 0; i < map.getOverflowCount(); i++) {
+            pixels = blit(pixels, texturePixels[map.getOverflowTile(i)], tileSize,
+                          (int) Math.round(map.getOverflowX(i)) - chunkX,
+                          (int) Math.round(map.getOverflowY(i)) - originY);
+        }
+        return pixels;
+    }
+    
+    // texture pixels at tile size, or the fallback block when the image is missing
+    private static int[] readTexture(String path, int tileSize) {
+        int[] pixels = new int[tileSize * tileSize];
+        Image image = ImageCache.acquire(path);
+        try {
+            if (image == null) {
+                for (int y = 0; y < tileSize; y++) {
+                    for (int x = 0; x < tileSize; x++) {
+                        boolean edge = x == 0 || y == 0 || x == tileSize - 1 || y == tileSize - 1;
+                        pixels[y * tileSize + x] = edge ? FALLBACK_EDGE : FALLBACK_FILL;
+                    }
+                }
+                return pixels;
+            }
+            
+            PixelReader reader = image.getPixelReader();
+            if (reader == null) {
+                Log.warn("Terrain texture not readable, drawing blocks instead: {}", path);
+                return null;
+            }
+            
+            int w = (int) image.getWidth();
+            int h = (int) image.getHeight();
+            if (w == tileSize && h == tileSize) {
+                reader.getPixels(0, 0, tileSize, tileSize, PixelFormat.getIntArgbInstance(), pixels, 0, tileSize);
+            } else {
+                // TileDrawer draws the texture stretched to the block, nearest sample is close enough
+                for (int y = 0; y < tileSize; y++) {
+                    for (int x = 0; x < tileSize; x++) {
+                        pixels[y * tileSize + x] = reader.getArgb(x * w / tileSize, y * h / tileSize);
+                    }
+                }
+            }
+            return pixels;
+        } finally {
+            ImageCache.release(path);
+        }
+    }
+    
+    // draw one block at (x, y) in the chunk, blending like drawImage does (source over)
+    // the buffer is made by the first block that reaches into the chunk, returns it
+    private int[] blit(int[] dst, int[] src, int size, int x, int y) {
+        if (x >= chunkWidth || x + size <= 0) return dst;
+        if (dst == null) {
+            dst = new int[chunkWidth * height];
+        }
+        
+        for (int sy = 0; sy < size; sy++) {
+            int ty = y + sy;
+            if (ty < 0 || ty >= height) continue;
+            for (int sx = 0; sx < size; sx++) {
+                int tx = x + sx;
+                if (tx < 0 || tx >= chunkWidth) continue;
+                int index = ty * chunkWidth + tx;
+                dst[index] = over(src[sy * size + sx], dst[index]);
+            }
+        }
+        return dst;
+    }
+    
+    // source-over blend of two non-premultiplied ARGB pixels
+    private static int over(int src, int dst) {
+        int sa = src >>> 24;
+        if (sa == 255) return src;
+        if (sa == 0) return dst;
+        
+        int da = dst >>> 24;
+        int outA = sa + da * (255 - sa) / 255;
+        if (outA == 0) return 0;
+        
+        int r = blendChannel(src >> 16 & 0xFF, sa, dst >> 16 & 0xFF, da, outA);
+        int g = blendChannel(src >> 8 & 0xFF, sa, dst >> 8 & 0xFF, da, outA);
+        int b = blendChannel(src & 0xFF, sa, dst & 0xFF, da, outA);
+        return outA << 24 | r << 16 | g << 8 | b;
+    }
+    
+    private static int blendChannel(int s, int sa, int d, int da, int outA) {
+        return (s * sa + d * da * (255 - sa) / 255) / outA;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package game.levels;
+
+import game.util.ImageCache;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+// draws a level's terrain block by block straight from its TileMap, for when TerrainBaker can't bake it
+// only the columns under the camera are read, and each texture is held once however many blocks use it
+public final class TileDrawer {
+    private static final Color FALLBACK_FILL = Color.web("#7f7f7f"); // missing texture, same look as the baked one
+    
+    private final TileMap map;
+    private final Image[] textures; // by texture id, null where the texture is missing
+    private boolean disposed; // references already given back, dispose() only releases once
+    
+    public TileDrawer(TileMap map) {
+        this.map = map;
+        this.textures = new Image[map.getTextureCount() + 1];
+        for (int id = 1; id <= map.getTextureCount(); id++) {
+            textures[id] = ImageCache.acquire(map.getTexturePath(id));
+        }
+    }
+    
+    // draw the blocks overlapping viewX .. viewX + viewWidth, shifted left by camX, returns how many were drawn
+    // a block sits at most one cell right of its own cell, so the column left of the view is read too
+    public int render(GraphicsContext gc, double viewX, double viewWidth, double camX) {
+        int tileSize = map.getTileSize();
+        int firstCol = Math.max(0, (int) Math.floor(viewX / tileSize) - 1);
+        int lastCol = Math.min(map.getCols() - 1, (int) Math.floor((viewX + viewWidth) / tileSize));
+        double viewRight = viewX + viewWidth;
+        
+        int drawn = 0;
+        for (int row = 0; row < map.getRows(); row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int id = map.getTile(col, row);
+                if (id == TileMap.EMPTY) continue;
+                double x = map.getTileX(col, row);
+                if (x + tileSize < viewX || x > viewRight) continue;
+                drawBlock(gc, textures[id], x - camX, map.getTileY(col, row), tileSize);
+                drawn++;
+            }
+        }
+        for (int i = 0; i < map.getOverflowCount(); i++) {
+            double x = map.getOverflowX(i);
+            if (x + tileSize < viewX || x > viewRight) continue;
+            drawBlock(gc, textures[map.getOverflowTile(i)], x - camX, map.getOverflowY(i), tileSize);
+            drawn++;
+        }
+        return drawn;
+    }
+    
+    private static void drawBlock(GraphicsContext gc, Image texture, double drawX, double y, int size) {
+        if (texture != null) {
+            gc.drawImage(texture, drawX, y, size, size);
+        } else {
+            gc.setFill(FALLBACK_FILL);
+            gc.fillRect(drawX, y, size, size);
+            gc.setStroke(Color.BLACK);
+            gc.strokeRect(drawX, y, size, size);
+        }
+    }
+    
+    // give the textures back to the cache when the level is unloaded
+    public void dispose() {
+        if (disposed) return;
+        disposed = true;
+        for (int id = 1; id < textures.length; id++) {
+            ImageCache.release(map.getTexturePath(id)); // missing images are counted too, so release either way
+            textures[id] = null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,319 @@
+package game.levels;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+// static terrain stored as flat primitive arrays instead of one object per block
+// one byte of texture id per grid cell (0 = empty), plus the block's pixel offset inside its cell -
+// level files place blocks on 50px rows and sometimes off the 32px columns, so a plain grid
+// would move them. The rare block that lands in an already used cell goes to a small overflow list
+public class TileMap {
+    public static final int EMPTY = 0;
+    
+    private final int tileSize;
+    private final int cols;
+    private final int rows;
+    
+    private final byte[] tiles; // texture id per cell, row-major
+    private final byte[] offsetX; // block position inside its cell, 0 .. tileSize-1
+    private final byte[] offsetY;
+    private int tileCount;
+    
+    // blocks that share a cell with another block or fall outside the grid
+    private double[] overflowX = new double[4];
+    private double[] overflowY = new double[4];
+    private byte[] overflowTexture = new byte[4];
+    private int overflowCount;
+    
+    private final ArrayList<String> texturePaths = new ArrayList<>(); // texture id - 1 -> resource path
+    
+    public TileMap(double worldWidth, double worldHeight, int tileSize) {
+        this((int) Math.ceil(worldWidth / tileSize), (int) Math.ceil(worldHeight / tileSize), tileSize);
+    }
+    
+    private TileMap(int cols, int rows, int tileSize) {
+        this.tileSize = tileSize;
+        this.cols = cols;
+        this.rows = rows;
+        this.tiles = new byte[cols * rows];
+        this.offsetX = new byte[cols * rows];
+        this.offsetY = new byte[cols * rows];
+    }
+    
+    // bytes writeTo() needs
+    int encodedSize() {
+        int size = 4 * 5 + tiles.length * 3 + overflowCount * 17;
+        for (String path : texturePaths) {
+            size += CompiledLevel.stringSize(path);
+        }
+        return size + 4;
+    }
+    
+    // the arrays as they are, for the compiled level format - reading them back is three bulk copies
+    void writeTo(ByteBuffer out) {
+        out.putInt(tileSize).putInt(cols).putInt(rows).putInt(tileCount);
+        out.putInt(texturePaths.size());
+        for (String path : texturePaths) {
+            CompiledLevel.putString(out, path);
+        }
+        out.put(tiles).put(offsetX).put(offsetY);
+        out.putInt(overflowCount);
+        for (int i = 0; i < overflowCount; i++) {
+            out.putDouble(overflowX[i]).putDouble(overflowY[i]).put(overflowTexture[i]);
+        }
+    }
+    
+    static TileMap readFrom(ByteBuffer in) {
+        int tileSize = in.getInt();
+        int cols = in.getInt();
+        int rows = in.getInt();
+        TileMap map = new TileMap(cols, rows, tileSize);
+        map.tileCount = in.getInt();
+        int textures = in.getInt();
+        for (int i = 0; i < textures; i++) {
+            map.texturePaths.add(CompiledLevel.getString(in));
+        }
+        in.get(map.tiles).get(map.offsetX).get(map.offsetY);
+        int overflow = in.getInt();
+        map.overflowX = new double[Math.max(overflow, 4)];
+        map.overflowY = new double[Math.max(overflow, 4)];
+        map.overflowTexture = new byte[Math.max(overflow, 4)];
+        for (int i = 0; i < overflow; i++) {
+            map.overflowX[i] = in.getDouble();
+            map.overflowY[i] = in.getDouble();
+            map.overflowTexture[i] = in.get();
+        }
+        map.overflowCount = overflow;
+        return map;
+    }
+    
+    // add a solid block with its top-left corner at (x, y)
+    public void addTile(double x, double y, String texturePath) {
+        addTile(x, y, textureId(texturePath));
+    }
+    
+    // same with a texture id from textureId(), for loaders placing many blocks of one texture
+    public void addTile(double x, double y, int textureId) {
+        byte texture = (byte) textureId;
+        int col = (int) Math.floor(x / tileSize);
+        int row = (int) Math.floor(y / tileSize);
+        double ox = x - col * tileSize;
+        double oy = y - row * tileSize;
+        
+        boolean fits = col >= 0 && col < cols && row >= 0 && row < rows
+            && ox == (int) ox && oy == (int) oy; // offsets are stored as whole pixels
+        if (fits && tiles[row * cols + col] == EMPTY) {
+            int cell = row * cols + col;
+            tiles[cell] = texture;
+            offsetX[cell] = (byte) ox;
+            offsetY[cell] = (byte) oy;
+        } else {
+            if (overflowCount == overflowX.length) {
+                overflowX = Arrays.copyOf(overflowX, overflowCount * 2);
+                overflowY = Arrays.copyOf(overflowY, overflowCount * 2);
+                overflowTexture = Arrays.copyOf(overflowTexture, overflowCount * 2);
+            }
+            overflowX[overflowCount] = x;
+            overflowY[overflowCount] = y;
+            overflowTexture[overflowCount] = texture;
+            overflowCount++;
+        }
+        tileCount++;
+    }
+    
+    // is the point inside (or on the edge of) any block - at most four cell reads
+    // a block sits at most one cell right/down of its own cell, so only this cell and the
+    // ones to the left and above can reach the point
+    public boolean isSolid(double px, double py) {
+        int col = (int) Math.floor(px / tileSize);
+        int row = (int) Math.floor(py / tileSize);
+        
+        for (int r = row - 1; r <= row; r++) {
+            if (r < 0 || r >= rows) continue;
+            for (int c = col - 1; c <= col; c++) {
+                if (c < 0 || c >= cols) continue;
+                int cell = r * cols + c;
+                if (tiles[cell] == EMPTY) continue;
+                
+                double tx = c * tileSize + offsetX[cell];
+                double ty = r * tileSize + offsetY[cell];
+                if (px >= tx && px <= tx + tileSize && py >= ty && py <= ty + tileSize) {
+                    return true;
+                }
+            }
+        }
+        
+        for (int i = 0; i < overflowCount; i++) {
+            if (px >= overflowX[i] && px <= overflowX[i] + tileSize &&
+                py >= overflowY[i] && py <= overflowY[i] + tileSize) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // top of the nearest block at or below y that overlaps x .. x + width, +infinity if there is none
+    // where something dropped straight down would land - a column scan, meant for load time, not per step
+    public double surfaceBelow(double x, double width, double y) {
+        int firstCol = Math.max(0, (int) Math.floor(x / tileSize) - 1);
+        int lastCol = Math.min(cols - 1, (int) Math.floor((x + width) / tileSize));
+        int firstRow = Math.max(0, (int) Math.floor(y / tileSize) - 1);
+        double best = Double.POSITIVE_INFINITY;
+        
+        for (int r = firstRow; r < rows; r++) {
+            for (int c = firstCol; c <= lastCol; c++) {
+                int cell = r * cols + c;
+                if (tiles[cell] == EMPTY) continue;
+                
+                double tx = c * tileSize + offsetX[cell];
+                double ty = r * tileSize + offsetY[cell];
+                if (ty >= y && ty < best && x + width > tx && x < tx + tileSize) {
+                    best = ty;
+                }
+            }
+        }
+        
+        for (int i = 0; i < overflowCount; i++) {
+            if (overflowY[i] >= y && overflowY[i] < best &&
+                x + width > overflowX[i] && x < overflowX[i] + tileSize) {
+                best = overflowY[i];
+            }
+        }
+        return best;
+    }
+    
+    // texture id of a cell, EMPTY if there is no block
+    public int getTile(int col, int row) {
+        if (col < 0 || col >= cols || row < 0 || row >= rows) return EMPTY;
+        return tiles[row * cols + col] & 0xFF;
+    }
+    
+    // pixel position of the block in a cell (only meaningful when the cell is not empty)
+    public double getTileX(int col, int row) {
+        return col * tileSize + offsetX[row * cols + col];
+    }
+    
+    public double getTileY(int col, int row) {
+        return row * tileSize + offsetY[row * cols + col];
+    }
+    
+    // collision rectangles: blocks side by side on a row merged into one run, then runs of the same
+    // extent stacked directly on top of each other merged into one block of rows
+    // sorted top to bottom, left to right
+    public ArrayList<CollisionSpan> createCollisionSpans() {
+        ArrayList<CollisionSpan> blocks = new ArrayList<>(tileCount);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (getTile(col, row) != EMPTY) {
+                    blocks.add(new CollisionSpan(getTileX(col, row), getTileY(col, row), tileSize, tileSize));
+                }
+            }
+        }
+        for (int i = 0; i < overflowCount; i++) {
+            blocks.add(new CollisionSpan(overflowX[i], overflowY[i], tileSize, tileSize));
+        }
+        
+        // rows: same top, touching or overlapping left to right
+        blocks.sort(Comparator.comparingDouble(CollisionSpan::getY).thenComparingDouble(CollisionSpan::getX));
+        ArrayList<CollisionSpan> runs = new ArrayList<>();
+        int i = 0;
+        while (i < blocks.size()) {
+            CollisionSpan first = blocks.get(i);
+            double right = first.getRight();
+            int j = i + 1;
+            while (j < blocks.size() && blocks.get(j).getY() == first.getY() && blocks.get(j).getX() <= right) {
+                right = Math.max(right, blocks.get(j).getRight());
+                j++;
+            }
+            runs.add(new CollisionSpan(first.getX(), first.getY(), right - first.getX(), tileSize));
+            i = j;
+        }
+        
+        // stacks: same left and width, each run starting where the one above ends
+        runs.sort(Comparator.comparingDouble(CollisionSpan::getX).thenComparingDouble(CollisionSpan::getWidth)
+            .thenComparingDouble(CollisionSpan::getY));
+        ArrayList<CollisionSpan> spans = new ArrayList<>();
+        i = 0;
+        while (i < runs.size()) {
+            CollisionSpan first = runs.get(i);
+            double bottom = first.getBottom();
+            int j = i + 1;
+            while (j < runs.size() && runs.get(j).getX() == first.getX() &&
+                   runs.get(j).getWidth() == first.getWidth() && runs.get(j).getY() == bottom) {
+                bottom = runs.get(j).getBottom();
+                j++;
+            }
+            spans.add(new CollisionSpan(first.getX(), first.getY(), first.getWidth(), bottom - first.getY()));
+            i = j;
+        }
+        
+        spans.sort(Comparator.comparingDouble(CollisionSpan::getY).thenComparingDouble(CollisionSpan::getX));
+        return spans;
+    }
+    
+    public String getTexturePath(int id) {
+        return id == EMPTY ? null : texturePaths.get(id - 1);
+    }
+    
+    public int getTextureCount() {
+        return texturePaths.size();
+    }
+    
+    public int getTileCount() {
+        return tileCount;
+    }
+    
+    public int getOverflowCount() {
+        return overflowCount;
+    }
+    
+    public double getOverflowX(int i) {
+        return overflowX[i];
+    }
+    
+    public double getOverflowY(int i) {
+        return overflowY[i];
+    }
+    
+    // texture id of an overflow block
+    public int getOverflowTile(int i) {
+        return overflowTexture[i] & 0xFF;
+    }
+    
+    public int getCols() {
+        return cols;
+    }
+    
+    public int getRows() {
+        return rows;
+    }
+    
+    // width of the world the map covers, whole tiles
+    public double getWidth() {
+        return cols * (double) tileSize;
+    }
+    
+    public int getTileSize() {
+        return tileSize;
+    }
+    
+    // bytes held by the terrain arrays
+    public long getMemoryBytes() {
+        return tiles.length * 3L + overflowX.length * 17L;
+    }
+    
+    // id of a texture path, registered on first use
+    public int textureId(String path) {
+        int index = texturePaths.indexOf(path);
+        if (index < 0) {
+            if (texturePaths.size() == 255) {
+                throw new IllegalStateException("TileMap supports at most 255 textures");
+            }
+            texturePaths.add(path);
+            index = texturePaths.size() - 1;
+        }
+        return index + 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package game.util;
+
+import javafx.scene.image.Image;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Process-wide, reference-counted cache of decoded images
+ * Every caller asking for the same resource path shares one Image instance,
+ * so a level with a thousand blocks decodes its block texture once
+ */
+public final class ImageCache {
+
+    private static final Map<String, Entry> entries = new HashMap<>();
+
+    private static long hits;
+    private static long misses;
+    private static long bytesResident;
+    
+    private static volatile boolean headless;
+
+    private ImageCache() {}
+
+    // one cached image and the number of holders currently using it
+    private static final class Entry {
+        final Image image;
+        final long bytes;
+        int refCount;
+
+        Entry(Image image) {
+            this.image = image;
+            this.bytes = estimateBytes(image);
+        }
+    }
+
+    /**
+     * Get the shared image for a resource path and take a reference on it
+     * Missing images are cached as null too, so a bad path is only looked up once
+     * @param path Resource path (e.g., "/assets/blocks/newblock1.png")
+     * @return Shared Image object, or null if not found
+     */
+    public static synchronized Image acquire(String path) {
+        if (path == null || headless) return null;
+
+        Entry entry = lookup(ResourceLoader.normalizePath(path));
+        entry.refCount++;
+        return entry.image;
+    }
+
+    /**
+     * Get the shared image for a resource path without taking a reference
+     * For screens that are rebuilt over and over and never give their images back (the menus):
+     * a miss caches the image with no holders, and it stays resident for the life of the process -
+     * it is only evicted if someone later acquires and then releases the same path, or on clear().
+     * The menus use a handful of small images, so keeping them beats decoding them on every rebuild
+     * @param path Resource path (e.g., "/assets/buttons/play_button.png")
+     * @return Shared Image object, or null if not found
+     */
+    public static synchronized Image get(String path) {
+        if (path == null || headless) return null;
+        return lookup(ResourceLoader.normalizePath(path)).image;
+    }
+
+    // the entry for a normalized path, loading it on a miss
+    private static Entry lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hits++;
+        } else {
+            misses++;
+            entry = new Entry(ResourceLoader.loadImage(key));
+            entries.put(key, entry);
+            bytesResident += entry.bytes;
+        }
+        return entry;
+    }
+
+    /**
+     * Drop a reference taken with acquire - the image is evicted when nobody holds it
+     * Holders that keep an image for the whole process lifetime never need to call this,
+     * anyone else calls it once per acquire, including when acquire returned null for a missing image
+     * @param path Resource path passed to acquire
+     */
+    public static synchronized void release(String path) {
+        if (path == null) return;
+        String key = ResourceLoader.normalizePath(path);
+
+        Entry entry = entries.get(key);
+        if (entry == null) return;
+
+        entry.refCount--;
+        if (entry.refCount <= 0) {
+            entries.remove(key);
+            bytesResident -= entry.bytes;
+        }
+    }
+
+    /**
+     * Headless mode - acquire returns null without touching the JavaFX toolkit,
+     * so gameplay code can run on machines without a display (every entity already
+     * copes with a missing image by drawing a fallback, which is never called headless)
+     * @param enabled true to stop loading images
+     */
+    public static void setHeadless(boolean enabled) {
+        headless = enabled;
+    }
+    
+    public static boolean isHeadless() {
+        return headless;
+    }
+    
+    /**
+     * Drop every cached image regardless of reference counts
+     */
+    public static synchronized void clear() {
+        entries.clear();
+        bytesResident = 0;
+    }
+
+    public static synchronized long getHits() {
+        return hits;
+    }
+
+    public static synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Approximate decoded size of all resident images (32-bit ARGB per pixel)
+     */
+    public static synchronized long getBytesResident() {
+        return bytesResident;
+    }
+
+    public static synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public static synchronized String getStats() {
+        return "ImageCache: " + entries.size() + " images, " + hits + " hits, " + misses + " misses, "
+            + (bytesResident / 1024) + " KB resident";
+    }
+
+    private static long estimateBytes(Image image) {
+        if (image == null) return 0;
+        return (long) image.getWidth() * (long) image.getHeight() * 4L;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package game.util;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+/**
+ * A wide horizontal image stored as a row of fixed-width chunks
+ * Drawing only touches the one or two chunks under the camera, using source-rect draws,
+ * so the cost per frame stays the same however long the level is
+ */
+public class ImageStrip {
+
+    protected final Image[] chunks; // null where there is nothing to draw (or, when streamed, nothing loaded)
+    private final int chunkWidth;
+    private final double top; // world y of the strip's top edge
+    private final double width;
+    private final double height;
+    
+    /**
+     * @param chunks Chunk images from left to right, every chunk but the last exactly chunkWidth wide
+     * @param chunkWidth Width of one chunk in pixels
+     * @param top World y of the top edge
+     * @param width Total width covered by the strip
+     * @param height Height of the strip
+     */
+    public ImageStrip(Image[] chunks, int chunkWidth, double top, double width, double height) {
+        this.chunks = chunks;
+        this.chunkWidth = chunkWidth;
+        this.top = top;
+        this.width = width;
+        this.height = height;
+    }
+    
+    /**
+     * Cut an already decoded image into chunks, copying the pixels once at load time
+     * The source image can be dropped afterwards
+     * @param source Image to slice
+     * @param chunkWidth Width of one chunk, normally the window width
+     * @return Strip covering the whole source image, or null if it cannot be read
+     */
+    public static ImageStrip slice(Image source, int chunkWidth) {
+        if (source == null) return null;
+        PixelReader reader = source.getPixelReader();
+        if (reader == null) return null;
+        
+        int w = (int) source.getWidth();
+        int h = (int) source.getHeight();
+        int count = (w + chunkWidth - 1) / chunkWidth;
+        
+        Image[] chunks = new Image[count];
+        for (int i = 0; i < count; i++) {
+            int x = i * chunkWidth;
+            chunks[i] = new WritableImage(reader, x, 0, Math.min(chunkWidth, w - x), h);
+        }
+        return new ImageStrip(chunks, chunkWidth, 0, w, h);
+    }
+    
+    /**
+     * Draw the part of the strip between viewX and viewX + viewWidth, starting at the left edge of the screen
+     * @param gc Target graphics context
+     * @param viewX World x of the left screen edge
+     * @param viewWidth Width of the view in pixels
+     * @return Number of drawImage calls issued
+     */
+    public int render(GraphicsContext gc, double viewX, double viewWidth) {
+        double viewEnd = Math.min(viewX + viewWidth, width);
+        int first = (int) Math.floor(Math.max(viewX, 0) / chunkWidth);
+        int draws = 0;
+        
+        for (int i = first; i < chunks.length && i * (double) chunkWidth < viewEnd; i++) {
+            Image chunk = chunks[i];
+            if (chunk == null) continue; // nothing in this part of the strip
+            
+            double chunkX = i * (double) chunkWidth;
+            double from = Math.max(viewX, chunkX);
+            double to = Math.min(viewEnd, chunkX + chunk.getWidth());
+            if (to <= from) continue;
+            
+            gc.drawImage(chunk, from - chunkX, 0, to - from, height, from - viewX, top, to - from, height);
+            draws++;
+        }
+        return draws;
+    }
+    
+    /**
+     * Keep the chunks covering fromX..toX loaded and let the others go
+     * Every chunk of a plain strip is always loaded, so here this does nothing
+     * @param fromX World x where the wanted range starts
+     * @param toX World x where it ends
+     */
+    public void stream(double fromX, double toX) {
+    }
+    
+    /**
+     * Load the chunks covering fromX..toX before returning, for what has to be on screen straight away
+     * @param fromX World x where the range starts
+     * @param toX World x where it ends
+     */
+    public void load(double fromX, double toX) {
+    }
+    
+    /**
+     * Let go of every chunk that can be made again, a later stream() or load() brings them back
+     */
+    public void release() {
+    }
+    
+    /**
+     * @return Chunks currently held in memory
+     */
+    public int getLoadedCount() {
+        return chunks.length;
+    }
+    
+    public int getChunkCount() {
+        return chunks.length;
+    }
+    
+    public int getChunkWidth() {
+        return chunkWidth;
+    }
+    
+    public double getTop() {
+        return top;
+    }
+    
+    public double getWidth() {
+        return width;
+    }
+    
+    public double getHeight() {
+        return height;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,343 @@
+package game.util;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Small asynchronous, leveled logger
+ * Callers only check the level and drop a record into a lock-free ring buffer,
+ * a background thread formats the message and writes it to the log file (and console),
+ * so logging never blocks the game loop on I/O
+ *
+ * Messages use "{}" placeholders that are only filled in on the writer thread:
+ *     Log.debug("Landed on platform at ({}, {})", px, py);
+ * Primitive arguments are boxed at the call site, so per-frame call sites should
+ * also check the level first:
+ *     if (Log.isDebugEnabled()) Log.debug(...);
+ *
+ * Configuration (system properties, read once at startup):
+ *     jurassic.log.level   - DEBUG, INFO, WARN, ERROR or OFF (default INFO)
+ *     jurassic.log.file    - log file path, empty to disable (default jurassic-run.log in java.io.tmpdir,
+ *                            so running from the source tree doesn't leave a file in it)
+ *     jurassic.log.console - also echo to stdout/stderr (default true)
+ */
+public final class Log {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final Level LEVEL = parseLevel(System.getProperty("jurassic.log.level", "INFO"));
+
+    // static finals so the JIT folds disabled checks away entirely
+    private static final boolean DEBUG_ENABLED = LEVEL.ordinal() <= Level.DEBUG.ordinal();
+    private static final boolean INFO_ENABLED = LEVEL.ordinal() <= Level.INFO.ordinal();
+    private static final boolean WARN_ENABLED = LEVEL.ordinal() <= Level.WARN.ordinal();
+    private static final boolean ERROR_ENABLED = LEVEL.ordinal() <= Level.ERROR.ordinal();
+
+    private static final int CAPACITY = 8192; // must be a power of two
+    private static final int MASK = CAPACITY - 1;
+
+    // multi-producer, single-consumer ring: producers claim a slot by CAS on tail,
+    // publish the record into it, and the writer thread clears slots as it drains
+    private static final AtomicReferenceArray<Record> slots = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLong tail = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static volatile long head;
+
+    private static final boolean CONSOLE = Boolean.parseBoolean(System.getProperty("jurassic.log.console", "true"));
+    private static final PrintStream STDOUT = System.out;
+    private static final PrintStream STDERR = System.err;
+
+    private static final Thread writerThread;
+    private static Writer fileWriter;
+
+    static {
+        String path = System.getProperty("jurassic.log.file",
+                                         new File(System.getProperty("java.io.tmpdir"), "jurassic-run.log").getPath());
+        if (!path.isEmpty()) {
+            try {
+                fileWriter = new BufferedWriter(new FileWriter(path, false));
+            } catch (IOException e) {
+                STDERR.println("Log file unavailable (" + path + "): " + e.getMessage());
+                fileWriter = null;
+            }
+        }
+
+        writerThread = new Thread(Log::drainLoop, "log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "log-flush"));
+    }
+
+    private Log() {}
+
+    // one queued log call - formatting is deferred to the writer thread
+    private static final class Record {
+        final Level level;
+        final long timeMillis;
+        final String message;
+        final Object a;
+        final Object b;
+        final Object c;
+        final Object[] args;
+        final Throwable error;
+        final int argCount;
+
+        Record(Level level, String message, int argCount, Object a, Object b, Object c, Object[] args, Throwable error) {
+            this.level = level;
+            this.timeMillis = System.currentTimeMillis();
+            this.message = message;
+            this.argCount = argCount;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.args = args;
+            this.error = error;
+        }
+
+        Object arg(int i) {
+            if (args != null) return args[i];
+            switch (i) {
+                case 0: return a;
+                case 1: return b;
+                default: return c;
+            }
+        }
+    }
+
+    public static boolean isDebugEnabled() {
+        return DEBUG_ENABLED;
+    }
+
+    public static boolean isInfoEnabled() {
+        return INFO_ENABLED;
+    }
+
+    public static boolean isWarnEnabled() {
+        return WARN_ENABLED;
+    }
+
+    // DEBUG - per-frame and per-entity detail, off by default
+
+    public static void debug(String message) {
+        if (DEBUG_ENABLED) enqueue(Level.DEBUG, message, 0, null, null, null, null, null);
+    }
+
+    public static void debug(String message, Object a) {
+        if (DEBUG_ENABLED) enqueue(Level.DEBUG, message, 1, a, null, null, null, null);
+    }
+
+    public static void debug(String message, Object a, Object b) {
+        if (DEBUG_ENABLED) enqueue(Level.DEBUG, message, 2, a, b, null, null, null);
+    }
+
+    public static void debug(String message, Object a, Object b, Object c) {
+        if (DEBUG_ENABLED) enqueue(Level.DEBUG, message, 3, a, b, c, null, null);
+    }
+
+    public static void debug(String message, Object... args) {
+        if (DEBUG_ENABLED) enqueue(Level.DEBUG, message, args.length, null, null, null, args, null);
+    }
+
+    // INFO - game events (level loaded, fossil collected, game over)
+
+    public static void info(String message) {
+        if (INFO_ENABLED) enqueue(Level.INFO, message, 0, null, null, null, null, null);
+    }
+
+    public static void info(String message, Object a) {
+        if (INFO_ENABLED) enqueue(Level.INFO, message, 1, a, null, null, null, null);
+    }
+
+    public static void info(String message, Object a, Object b) {
+        if (INFO_ENABLED) enqueue(Level.INFO, message, 2, a, b, null, null, null);
+    }
+
+    public static void info(String message, Object a, Object b, Object c) {
+        if (INFO_ENABLED) enqueue(Level.INFO, message, 3, a, b, c, null, null);
+    }
+
+    public static void info(String message, Object... args) {
+        if (INFO_ENABLED) enqueue(Level.INFO, message, args.length, null, null, null, args, null);
+    }
+
+    // WARN - missing resources and recoverable problems
+
+    public static void warn(String message) {
+        if (WARN_ENABLED) enqueue(Level.WARN, message, 0, null, null, null, null, null);
+    }
+
+    public static void warn(String message, Object a) {
+        if (WARN_ENABLED) enqueue(Level.WARN, message, 1, a, null, null, null, null);
+    }
+
+    public static void warn(String message, Object a, Object b) {
+        if (WARN_ENABLED) enqueue(Level.WARN, message, 2, a, b, null, null, null);
+    }
+
+    public static void warn(String message, Object a, Object b, Object c) {
+        if (WARN_ENABLED) enqueue(Level.WARN, message, 3, a, b, c, null, null);
+    }
+
+    // ERROR - failures, optionally with the exception that caused them
+
+    public static void error(String message) {
+        if (ERROR_ENABLED) enqueue(Level.ERROR, message, 0, null, null, null, null, null);
+    }
+
+    public static void error(String message, Throwable error) {
+        if (ERROR_ENABLED) enqueue(Level.ERROR, message, 0, null, null, null, null, error);
+    }
+
+    public static void error(String message, Object a, Throwable error) {
+        if (ERROR_ENABLED) enqueue(Level.ERROR, message, 1, a, null, null, null, error);
+    }
+
+    /**
+     * Number of records discarded because the ring buffer was full
+     */
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Block until everything queued so far has been written (used on shutdown)
+     */
+    public static void flush() {
+        long target = tail.get();
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (head < target && System.nanoTime() < deadline) {
+            LockSupport.unpark(writerThread);
+            Thread.yield();
+        }
+        synchronized (Log.class) {
+            try {
+                if (fileWriter != null) fileWriter.flush();
+            } catch (IOException e) {
+                // nothing useful to do while shutting down
+            }
+        }
+    }
+
+    private static void enqueue(Level level, String message, int argCount, Object a, Object b, Object c,
+                                Object[] args, Throwable error) {
+        long slot;
+        while (true) {
+            slot = tail.get();
+            if (slot - head >= CAPACITY) {
+                dropped.incrementAndGet(); // never block the game loop on a slow disk
+                return;
+            }
+            if (tail.compareAndSet(slot, slot + 1)) break;
+        }
+        slots.lazySet((int) (slot & MASK), new Record(level, message, argCount, a, b, c, args, error));
+    }
+
+    private static void drainLoop() {
+        StringBuilder sb = new StringBuilder(256);
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+        Date date = new Date();
+        long reportedDrops = 0;
+
+        while (true) {
+            boolean wrote = false;
+            long h = head;
+            while (h < tail.get()) {
+                int index = (int) (h & MASK);
+                Record record = slots.get(index);
+                if (record == null) break; // slot claimed but not published yet
+                slots.set(index, null);
+                head = ++h;
+
+                sb.setLength(0);
+                date.setTime(record.timeMillis);
+                sb.append(timeFormat.format(date)).append(' ').append(record.level).append(' ');
+                appendFormatted(sb, record);
+                write(record.level, sb.toString(), record.error);
+                wrote = true;
+            }
+
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                write(Level.WARN, "Log buffer full, dropped " + (drops - reportedDrops) + " messages", null);
+                reportedDrops = drops;
+                wrote = true;
+            }
+
+            if (wrote) {
+                synchronized (Log.class) {
+                    try {
+                        if (fileWriter != null) fileWriter.flush();
+                    } catch (IOException e) {
+                        fileWriter = null;
+                    }
+                }
+            } else {
+                LockSupport.parkNanos(2_000_000L);
+            }
+        }
+    }
+
+    // replace each "{}" with the next argument, extra arguments are ignored
+    private static void appendFormatted(StringBuilder sb, Record record) {
+        String message = record.message;
+        if (message == null) {
+            sb.append("null");
+            return;
+        }
+        int argIndex = 0;
+        int start = 0;
+        int marker;
+        while (argIndex < record.argCount && (marker = message.indexOf("{}", start)) >= 0) {
+            sb.append(message, start, marker);
+            sb.append(String.valueOf(record.arg(argIndex++)));
+            start = marker + 2;
+        }
+        sb.append(message, start, message.length());
+    }
+
+    private static void write(Level level, String line, Throwable error) {
+        String trace = null;
+        if (error != null) {
+            StringWriter sw = new StringWriter();
+            error.printStackTrace(new PrintWriter(sw));
+            trace = sw.toString();
+        }
+
+        if (CONSOLE) {
+            PrintStream out = level.ordinal() >= Level.WARN.ordinal() ? STDERR : STDOUT;
+            out.println(line);
+            if (trace != null) out.print(trace);
+        }
+
+        synchronized (Log.class) {
+            if (fileWriter == null) return;
+            try {
+                fileWriter.write(line);
+                fileWriter.write(System.lineSeparator());
+                if (trace != null) fileWriter.write(trace);
+            } catch (IOException e) {
+                fileWriter = null;
+            }
+        }
+    }
+
+    private static Level parseLevel(String name) {
+        try {
+            return Level.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package game.util;
+
+import javafx.scene.image.Image;
+
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+
+/**
+ * An ImageStrip whose chunks are made on demand instead of all at load time
+ * Only the chunks around the camera are held: stream() hands the ones coming into range to a
+ * background executor and drops the ones that left it, so memory stays the same however long the
+ * strip is. The chunk array itself only holds references, one per chunk
+ * stream(), load() and render() are called from the game thread, the loader runs on the executor
+ */
+public class StreamedStrip extends ImageStrip {
+
+    private final IntFunction<Image> loader;
+    private final Executor executor;
+    private final CompletableFuture<?>[] pending; // loads in flight, by chunk
+    private final BitSet requested; // chunks with a load in flight
+    private final BitSet loaded; // chunks held, a loaded chunk can still be null when it has nothing to draw
+    private int first; // range asked for by the last stream() call
+    private int last = -1;
+    
+    /**
+     * @param chunkCount Number of chunks across the strip
+     * @param chunkWidth Width of one chunk in pixels
+     * @param top World y of the top edge
+     * @param width Total width covered by the strip
+     * @param height Height of the strip
+     * @param loader Makes one chunk by index, null for a stretch with nothing in it - called on the executor
+     *               for streamed chunks and on the caller for load(), so it must be thread safe
+     * @param executor Runs the background loads
+     */
+    public StreamedStrip(int chunkCount, int chunkWidth, double top, double width, double height,
+                         IntFunction<Image> loader, Executor executor) {
+        super(new Image[chunkCount], chunkWidth, top, width, height);
+        this.loader = loader;
+        this.executor = executor;
+        this.pending = new CompletableFuture<?>[chunkCount];
+        this.requested = new BitSet(chunkCount);
+        this.loaded = new BitSet(chunkCount);
+    }
+    
+    /**
+     * Collect finished loads, then if the range moved, drop the chunks that left it and start loading
+     * the ones that came in. Called every step, it does nothing else while the range stays put
+     * @param fromX World x where the wanted range starts
+     * @param toX World x where it ends
+     */
+    @Override
+    public void stream(double fromX, double toX) {
+        if (chunks.length == 0) return;
+        int from = chunkAt(fromX);
+        int to = chunkAt(toX);
+        
+        for (int i = requested.nextSetBit(0); i >= 0; i = requested.nextSetBit(i + 1)) {
+            if (i < from || i > to) {
+                cancel(i); // not wanted any more, skipped if it hasn't started
+            } else if (pending[i].isDone()) {
+                finish(i);
+            }
+        }
+        if (from == first && to == last) return;
+        
+        for (int i = loaded.nextSetBit(0); i >= 0; i = loaded.nextSetBit(i + 1)) {
+            if (i < from || i > to) {
+                chunks[i] = null;
+                loaded.clear(i);
+            }
+        }
+        for (int i = from; i <= to; i++) {
+            if (loaded.get(i) || requested.get(i)) continue;
+            int chunk = i;
+            pending[i] = CompletableFuture.supplyAsync(() -> loader.apply(chunk), executor);
+            requested.set(i);
+        }
+        first = from;
+        last = to;
+    }
+    
+    /**
+     * Load the chunks covering fromX..toX on this thread (waiting for any already on their way)
+     * Chunks outside the last stream() range are dropped again by the next stream() call
+     * @param fromX World x where the range starts
+     * @param toX World x where it ends
+     */
+    @Override
+    public void load(double fromX, double toX) {
+        if (chunks.length == 0) return;
+        int to = chunkAt(toX);
+        for (int i = chunkAt(fromX); i <= to; i++) {
+            if (loaded.get(i)) continue;
+            if (requested.get(i)) {
+                finish(i);
+            } else {
+                chunks[i] = loader.apply(i);
+                loaded.set(i);
+            }
+        }
+    }
+    
+    @Override
+    public void release() {
+        for (int i = requested.nextSetBit(0); i >= 0; i = requested.nextSetBit(i + 1)) {
+            cancel(i);
+        }
+        for (int i = loaded.nextSetBit(0); i >= 0; i = loaded.nextSetBit(i + 1)) {
+            chunks[i] = null;
+        }
+        loaded.clear();
+        first = 0;
+        last = -1;
+    }
+    
+    @Override
+    public int getLoadedCount() {
+        return loaded.cardinality();
+    }
+    
+    // take a load's result, waiting for it if it is still running - a failed load leaves the chunk empty
+    private void finish(int i) {
+        try {
+            chunks[i] = (Image) pending[i].join();
+        } catch (RuntimeException e) {
+            Log.warn("Strip chunk {} failed to load: {}", i, e.getMessage());
+            chunks[i] = null;
+        }
+        loaded.set(i);
+        pending[i] = null;
+        requested.clear(i);
+    }
+    
+    private void cancel(int i) {
+        pending[i].cancel(false);
+        pending[i] = null;
+        requested.clear(i);
+    }
+    
+    private int chunkAt(double x) {
+        int chunk = (int) Math.floor(x / getChunkWidth());
+        return Math.max(0, Math.min(chunks.length - 1, chunk));
+    }
+}
\ No newline at end of file